@@ -0,0 +1,467 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.exception.UpstreamUnreachableException;
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versioned in-memory snapshot of the mock server's employee list.
+ *
+ * <p>Reads are served locally while the snapshot is younger than the TTL. Once it enters the refresh-ahead window a
+ * single background reload is started and callers keep reading the current snapshot; only a missing or expired
+ * snapshot makes a caller wait for the upstream. Local creates and deletes are applied immediately and stamped with a
+ * version, so a reload that was already in flight when they happened re-applies them instead of losing them.
+ *
+ * <p>A loader may return the very list it returned for the previous reload to say nothing changed upstream, as it does
+ * when the mock server answers {@code 304 Not Modified}; the snapshot is then kept as it is and only its age reset.
+ *
+ * <p>While {@link #mirror mirrored} from the mock server's change feed the snapshot is kept current by the feed's
+ * changes instead, and never expires or reloads; once the feed drops it ages from that moment like a loaded one.
+ *
+ * <p>When a reload fails because the mock server is rate limiting after every retry, cannot be reached, or has its
+ * circuit open, an expired snapshot is served stale for up to {@code max-stale} past its expiry rather than failing the
+ * read. Until a reload succeeds, reads no longer wait on the upstream: a single background reload is retried every
+ * {@code stale-retry} instead. A refresh-ahead failing the same way counts too, so the snapshot expiring does not make
+ * a reader wait on an upstream already failing. Every read returns a {@link Snapshot} saying whether it was served
+ * stale. Any other failure, such as a response that cannot be decoded, still fails the read.
+ *
+ * <p>Derived structures (the {@link TrigramIndex} and the {@link SalaryRanking}) are maintained incrementally from
+ * those same changes, and a reload only touches the entries that actually differ from the previous snapshot.
+ */
+@Slf4j
+@Component
+public class EmployeeCache {
+
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration maxStale;
+    private final Duration staleRetry;
+    private final Clock clock;
+    private final ExecutorService refresher;
+
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile boolean mirrored;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    // Guarded by stateLock.
+    private final Map<String, Employee> employees = new LinkedHashMap<>();
+    private final TrigramIndex nameIndex = new TrigramIndex();
+    private final SalaryRanking salaryRanking = new SalaryRanking();
+    private final List<Mutation> mutations = new ArrayList<>();
+    private Instant loadedAt;
+    private long version;
+    private List<Employee> lastFetched;
+    // Set by a failed reload and cleared by a successful one: the earliest a reload may be retried.
+    private volatile Instant retryAt;
+
+    // Materialized lazily from employees; reset to null by every write.
+    private volatile List<Employee> view;
+
+    @Autowired
+    public EmployeeCache(
+            @Value("${employee.cache.ttl:30s}") Duration ttl,
+            @Value("${employee.cache.refresh-ahead:10s}") Duration refreshAhead,
+            @Value("${employee.cache.max-stale:5m}") Duration maxStale,
+            @Value("${employee.cache.stale-retry:2s}") Duration staleRetry) {
+        this(ttl, refreshAhead, maxStale, staleRetry, Clock.systemUTC());
+    }
+
+    /** A cache that never serves stale data: a failed reload of an expired snapshot fails the read. */
+    public EmployeeCache(Duration ttl, Duration refreshAhead, Clock clock) {
+        this(ttl, refreshAhead, Duration.ZERO, Duration.ZERO, clock);
+    }
+
+    public EmployeeCache(Duration ttl, Duration refreshAhead, Duration maxStale, Duration staleRetry, Clock clock) {
+        if (refreshAhead.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("employee.cache.refresh-ahead must be shorter than employee.cache.ttl");
+        }
+        if (maxStale.isNegative() || staleRetry.isNegative()) {
+            throw new IllegalArgumentException("employee.cache.max-stale and stale-retry must not be negative");
+        }
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.maxStale = maxStale;
+        this.staleRetry = staleRetry;
+        this.clock = clock;
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the cached employees, loading them through {@code loader} first if the snapshot is missing or expired.
+     */
+    public Snapshot<List<Employee>> getAll(Supplier<List<Employee>> loader) {
+        return read(loader, () -> {
+            List<Employee> current = view;
+            if (current == null) {
+                current = List.copyOf(employees.values());
+                view = current;
+            }
+            return current;
+        });
+    }
+
+    /** Employees whose name contains {@code fragment}, ignoring case, loading the snapshot first if needed. */
+    public Snapshot<List<Employee>> search(String fragment, Supplier<List<Employee>> loader) {
+        return read(loader, () -> nameIndex.search(fragment));
+    }
+
+    /** The highest salary in the snapshot, or 0 when it is empty, loading the snapshot first if needed. */
+    public Snapshot<Integer> highestSalary(Supplier<List<Employee>> loader) {
+        return read(loader, salaryRanking::highestSalary);
+    }
+
+    /** Up to {@code k} employees with the highest salaries, highest first, loading the snapshot first if needed. */
+    public Snapshot<List<Employee>> topEarners(int k, Supplier<List<Employee>> loader) {
+        return read(loader, () -> salaryRanking.top(k));
+    }
+
+    /**
+     * Looks an employee up in the current snapshot without ever going upstream. Empty when the snapshot is expired.
+     */
+    public Optional<Employee> find(String id) {
+        Optional<Employee> employee = peek(id);
+        (employee.isEmpty() ? misses : hits).increment();
+        return employee;
+    }
+
+    /**
+     * Like {@link #find} but not counted as a hit or a miss, for callers only deciding how to look ids up, which then
+     * look each one up with {@link #find}.
+     */
+    public Optional<Employee> peek(String id) {
+        stateLock.readLock().lock();
+        try {
+            return !mirrored && (loadedAt == null || isExpired(loadedAt, clock.instant()))
+                    ? Optional.empty()
+                    : Optional.ofNullable(employees.get(id));
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code employees}, a full list from the change feed, and keeps it without expiry until
+     * {@link #stopMirroring()}. Later changes from the feed are applied with {@link #put} and {@link #remove}.
+     */
+    public void mirror(List<Employee> employees) {
+        loadLock.lock();
+        try {
+            reload(() -> employees);
+            mirrored = true;
+        } finally {
+            loadLock.unlock();
+        }
+        log.info("Mirroring {} employees from the change feed", employees.size());
+    }
+
+    /**
+     * The change feed reconnected and replayed, through {@link #put} and {@link #remove}, every change it missed, so
+     * the snapshot is current again.
+     */
+    public void resumeMirroring() {
+        stateLock.writeLock().lock();
+        try {
+            if (loadedAt == null) {
+                return; // Nothing to keep current; the feed sends a snapshot when it has none to resume from.
+            }
+            mirrored = true;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        log.info("Resumed mirroring the change feed");
+    }
+
+    /** The change feed dropped: the snapshot was current until now and from here on expires like a loaded one. */
+    public void stopMirroring() {
+        stateLock.writeLock().lock();
+        try {
+            if (!mirrored) {
+                return;
+            }
+            mirrored = false;
+            loadedAt = clock.instant();
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        log.info("Stopped mirroring the change feed; the snapshot now expires in {}", ttl);
+    }
+
+    public boolean isMirrored() {
+        return mirrored;
+    }
+
+    public void put(Employee employee) {
+        apply(employee.getId(), employee);
+    }
+
+    public void remove(String id) {
+        apply(id, null);
+    }
+
+    /** Reads answered from a fresh snapshot, including ones that also started a background refresh. */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /** Reads that had to wait for the upstream, or lookups the snapshot could not answer. */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /** Reads answered from an expired snapshot because reloading it failed. */
+    public long staleHits() {
+        return staleHits.sum();
+    }
+
+    public long version() {
+        stateLock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Runs {@code query} on the snapshot, loading it first if needed, together with the snapshot's age when it is past
+     * its TTL, as it is while served stale. Both are read under the same lock, so a reload landing in between cannot
+     * pair fresh data with a stale age or the other way round.
+     */
+    private <T> Snapshot<T> read(Supplier<List<Employee>> loader, Supplier<T> query) {
+        ensureFresh(loader);
+        stateLock.readLock().lock();
+        try {
+            Instant now = clock.instant();
+            if (mirrored || loadedAt == null || !isExpired(loadedAt, now)) {
+                return Snapshot.fresh(query.get());
+            }
+            return new Snapshot<>(query.get(), Optional.of(Duration.between(loadedAt, now)));
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    private void ensureFresh(Supplier<List<Employee>> loader) {
+        if (mirrored) {
+            hits.increment();
+            return;
+        }
+        Instant now = clock.instant();
+        Instant loaded = loadedAt();
+        if (loaded == null || isExpired(loaded, now)) {
+            if (retryAt != null && canServeStale(loaded, now)) {
+                staleHits.increment();
+                retryInBackground(loader, now);
+                return;
+            }
+            (loadNow(loader) ? misses : staleHits).increment();
+            return;
+        }
+        hits.increment();
+        if (!now.isBefore(loaded.plus(ttl).minus(refreshAhead))) {
+            retryInBackground(loader, now);
+        }
+    }
+
+    /**
+     * Reloads the expired snapshot, or returns false to have it served stale when the reload fails, or failed for a
+     * caller this one waited on, and the snapshot is still within {@code max-stale}.
+     */
+    private boolean loadNow(Supplier<List<Employee>> loader) {
+        loadLock.lock();
+        try {
+            Instant now = clock.instant();
+            Instant loaded = loadedAt();
+            if (loaded != null && !isExpired(loaded, now)) {
+                return true; // Another caller finished the load while we were waiting.
+            }
+            if (retryAt != null && canServeStale(loaded, now)) {
+                return false; // Another caller's load failed while we were waiting.
+            }
+            try {
+                reload(loader);
+                return true;
+            } catch (RuntimeException e) {
+                if (!isUpstreamFailure(e) || !canServeStale(loaded, now)) {
+                    throw e;
+                }
+                retryAt = now.plus(staleRetry);
+                log.warn(
+                        "Employee reload failed, serving the snapshot stale until {}: {}",
+                        loaded.plus(ttl).plus(maxStale),
+                        e.getMessage());
+                return false;
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /** Starts a background reload unless one is running, or one failed and is not due to be retried yet. */
+    private void retryInBackground(Supplier<List<Employee>> loader, Instant now) {
+        Instant due = retryAt;
+        if (due == null || !now.isBefore(due)) {
+            refreshInBackground(loader);
+        }
+    }
+
+    /** Whether {@code e} says the mock server is throttling, unreachable or cut off, which stale data can cover for. */
+    private static boolean isUpstreamFailure(RuntimeException e) {
+        return e instanceof UpstreamRateLimitedException
+                || e instanceof UpstreamUnavailableException
+                || e instanceof UpstreamUnreachableException;
+    }
+
+    private boolean canServeStale(Instant loaded, Instant now) {
+        return loaded != null && now.isBefore(loaded.plus(ttl).plus(maxStale));
+    }
+
+    private void refreshInBackground(Supplier<List<Employee>> loader) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                loadLock.lock();
+                try {
+                    reload(loader);
+                } catch (RuntimeException e) {
+                    if (isUpstreamFailure(e)) {
+                        retryAt = clock.instant().plus(staleRetry);
+                        log.warn("Background employee refresh failed, retrying in {}: {}", staleRetry, e.getMessage());
+                    } else {
+                        log.warn("Background employee refresh failed: {}", e.getMessage());
+                    }
+                } finally {
+                    loadLock.unlock();
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private void reload(Supplier<List<Employee>> loader) {
+        Instant startedAt = clock.instant();
+        long startVersion = version();
+        List<Employee> fetched = loader.get();
+
+        stateLock.writeLock().lock();
+        try {
+            if (fetched == lastFetched) {
+                // Unchanged upstream, so local changes already applied are still the only ones to keep.
+                mutations.clear();
+                loadedAt = startedAt;
+                retryAt = null;
+                log.debug("Employee snapshot revalidated: {} employees (version {})", fetched.size(), version);
+                return;
+            }
+            Set<String> fetchedIds = new HashSet<>();
+            employees.clear();
+            for (Employee employee : fetched) {
+                fetchedIds.add(employee.getId());
+                employees.put(employee.getId(), employee);
+                nameIndex.add(employee);
+                salaryRanking.add(employee);
+            }
+            nameIndex.retainAll(fetchedIds);
+            salaryRanking.retainAll(fetchedIds);
+            for (Mutation mutation : mutations) {
+                if (mutation.version() > startVersion) {
+                    log.debug("Re-applying local change to {} made during reload", mutation.id());
+                    applyLocally(mutation);
+                }
+            }
+            mutations.clear();
+            version++;
+            loadedAt = startedAt;
+            lastFetched = fetched;
+            retryAt = null;
+            view = null;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        log.debug("Employee snapshot reloaded: {} employees (version {})", fetched.size(), version());
+    }
+
+    private void apply(String id, Employee employee) {
+        stateLock.writeLock().lock();
+        try {
+            Mutation mutation = new Mutation(++version, id, employee);
+            applyLocally(mutation);
+            if (loadLock.isLocked()) {
+                // Only a reload that is already in flight can miss this change.
+                mutations.add(mutation);
+            }
+            view = null;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocally(Mutation mutation) {
+        if (mutation.employee() != null) {
+            employees.put(mutation.id(), mutation.employee());
+            nameIndex.add(mutation.employee());
+            salaryRanking.add(mutation.employee());
+        } else {
+            employees.remove(mutation.id());
+            nameIndex.remove(mutation.id());
+            salaryRanking.remove(mutation.id());
+        }
+    }
+
+    private Instant loadedAt() {
+        stateLock.readLock().lock();
+        try {
+            return loadedAt;
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    private boolean isExpired(Instant loaded, Instant now) {
+        return !now.isBefore(loaded.plus(ttl));
+    }
+
+    /** A local create ({@code employee} set) or delete ({@code employee} null), stamped with the cache version. */
+    private record Mutation(long version, String id, Employee employee) {}
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Employees ordered by salary, highest first, with ties kept in insertion order.
+ *
+ * <p>Backed by a balanced tree, so adding or removing an employee (including the current top earner) costs O(log n)
+ * and the top K are read in O(log n + K) without looking at the rest of the dataset.
+ *
+ * <p>Not thread-safe: {@link EmployeeCache} guards it with its state lock.
+ */
+public class SalaryRanking {
+
+    private static final Comparator<Entry> HIGHEST_FIRST = Comparator.comparingInt(Entry::salary)
+            .reversed()
+            .thenComparingLong(Entry::sequence);
+
+    private final TreeSet<Entry> ranking = new TreeSet<>(HIGHEST_FIRST);
+    private final Map<String, Entry> entriesById = new HashMap<>();
+    private long sequence;
+
+    /** Ranks {@code employee}, replacing any entry with the same id but keeping its place among equal salaries. */
+    public void add(Employee employee) {
+        Entry existing = entriesById.get(employee.getId());
+        long entrySequence = existing != null ? existing.sequence() : sequence++;
+        if (existing != null) {
+            ranking.remove(existing);
+        }
+        Entry entry = new Entry(employee.getEmployee_salary(), entrySequence, employee);
+        ranking.add(entry);
+        entriesById.put(employee.getId(), entry);
+    }
+
+    public void remove(String id) {
+        Entry entry = entriesById.remove(id);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    /** Removes every entry whose id is not in {@code ids}. */
+    public void retainAll(Set<String> ids) {
+        List<String> stale =
+                entriesById.keySet().stream().filter(id -> !ids.contains(id)).toList();
+        stale.forEach(this::remove);
+    }
+
+    public void clear() {
+        ranking.clear();
+        entriesById.clear();
+    }
+
+    /** The highest salary, or 0 when there are no employees. */
+    public int highestSalary() {
+        return ranking.isEmpty() ? 0 : ranking.first().salary();
+    }
+
+    /** Up to {@code k} employees with the highest salaries, highest first. */
+    public List<Employee> top(int k) {
+        List<Employee> top = new ArrayList<>(Math.min(k, ranking.size()));
+        Iterator<Entry> iterator = ranking.iterator();
+        while (top.size() < k && iterator.hasNext()) {
+            top.add(iterator.next().employee());
+        }
+        return top;
+    }
+
+    private record Entry(int salary, long sequence, Employee employee) {}
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@code value}, read from {@link EmployeeCache}'s snapshot, with the snapshot's age at that read when it was served
+ * stale because it could not be reloaded.
+ */
+public record Snapshot<T>(T value, Optional<Duration> staleness) {
+
+    /** {@code value} read from a current snapshot. */
+    public static <T> Snapshot<T> fresh(T value) {
+        return new Snapshot<>(value, Optional.empty());
+    }
+}
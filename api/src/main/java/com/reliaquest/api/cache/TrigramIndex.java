@@ -0,0 +1,219 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Case-insensitive substring index over {@link Employee#getEmployee_name()}.
+ *
+ * <p>Every indexed employee owns a slot number, handed out in insertion order. Each lower-cased name is split into its
+ * overlapping three-character grams and every gram keeps a sorted list of the slots whose name contains it. A query
+ * intersects the lists of its grams, rarest first, and only verifies the surviving names, so the result comes out in
+ * insertion order without touching the rest of the dataset. Fragments shorter than a gram fall back to a scan.
+ *
+ * <p>Not thread-safe: {@link EmployeeCache} guards it with its state lock.
+ */
+public class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+    private static final int MIN_HOLES_BEFORE_COMPACTION = 1024;
+
+    private final List<Entry> slots = new ArrayList<>();
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private final Map<String, SlotList> postings = new HashMap<>();
+    private int holes;
+
+    /**
+     * Indexes {@code employee}, replacing any entry with the same id. Re-adding an unchanged name only swaps the
+     * stored reference, so reloading a mostly unchanged list touches no postings.
+     */
+    public void add(Employee employee) {
+        String id = employee.getId();
+        String name = normalize(employee.getEmployee_name());
+        Integer slot = slotsById.get(id);
+        if (slot != null) {
+            Entry existing = slots.get(slot);
+            slots.set(slot, new Entry(employee, name));
+            if (!Objects.equals(existing.name(), name)) {
+                unlink(slot, existing.name());
+                link(slot, name);
+            }
+            return;
+        }
+        slot = slots.size();
+        slots.add(new Entry(employee, name));
+        slotsById.put(id, slot);
+        link(slot, name);
+    }
+
+    public void remove(String id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        unlink(slot, slots.get(slot).name());
+        slots.set(slot, null);
+        holes++;
+        compactIfSparse();
+    }
+
+    /** Removes every entry whose id is not in {@code ids}. */
+    public void retainAll(Set<String> ids) {
+        List<String> stale =
+                slotsById.keySet().stream().filter(id -> !ids.contains(id)).toList();
+        stale.forEach(this::remove);
+    }
+
+    public void clear() {
+        slots.clear();
+        slotsById.clear();
+        postings.clear();
+        holes = 0;
+    }
+
+    public int size() {
+        return slotsById.size();
+    }
+
+    /** Employees whose name contains {@code fragment}, ignoring case, in insertion order. */
+    public List<Employee> search(String fragment) {
+        String needle = normalize(fragment);
+        if (needle.length() < GRAM_LENGTH) {
+            return slots.stream()
+                    .filter(entry -> entry != null && entry.name() != null && entry.name().contains(needle))
+                    .map(Entry::employee)
+                    .toList();
+        }
+
+        List<SlotList> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            SlotList list = postings.get(gram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(SlotList::size));
+
+        SlotList rarest = lists.get(0);
+        boolean exact = needle.length() == GRAM_LENGTH;
+        List<Employee> matches = new ArrayList<>();
+        for (int i = 0; i < rarest.size(); i++) {
+            int slot = rarest.get(i);
+            if (containedInAll(lists, slot)) {
+                Entry entry = slots.get(slot);
+                // Sharing every gram does not make the grams adjacent, so longer fragments are still verified.
+                if (exact || entry.name().contains(needle)) {
+                    matches.add(entry.employee());
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containedInAll(List<SlotList> lists, int slot) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void link(int slot, String name) {
+        if (name != null) {
+            for (String gram : grams(name)) {
+                postings.computeIfAbsent(gram, ignored -> new SlotList()).insert(slot);
+            }
+        }
+    }
+
+    private void unlink(int slot, String name) {
+        if (name == null) {
+            return;
+        }
+        for (String gram : grams(name)) {
+            SlotList list = postings.get(gram);
+            if (list != null && list.delete(slot) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /** Renumbers slots once deletions have left more holes than live entries. */
+    private void compactIfSparse() {
+        if (holes < MIN_HOLES_BEFORE_COMPACTION || holes < slotsById.size()) {
+            return;
+        }
+        List<Employee> live =
+                slots.stream().filter(Objects::nonNull).map(Entry::employee).toList();
+        clear();
+        live.forEach(this::add);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(Employee employee, String name) {}
+
+    /** Sorted, duplicate-free list of slots. New slots are always the largest, so inserts are usually appends. */
+    private static final class SlotList {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int get(int index) {
+            return slots[index];
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+
+        void insert(int slot) {
+            int at = size == 0 || slots[size - 1] < slot ? size : Arrays.binarySearch(slots, 0, size, slot);
+            if (at >= 0 && at < size) {
+                return; // Already present.
+            }
+            at = at < 0 ? -at - 1 : at;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+        }
+
+        boolean delete(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(slots, at + 1, slots, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.RateLimitWaitExceededException;
+import com.reliaquest.api.exception.RateLimitWaitInterruptedException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-wide pacing of calls to the mock server.
+ *
+ * <p>Callers reserve a slot on a shared schedule (a token bucket expressed as a virtual clock), so requests leave
+ * evenly spaced with a small random jitter instead of in bursts. The rate adapts AIMD-style: every success adds
+ * {@code increaseStep} requests/second, every 429 multiplies it by {@code decreaseFactor} and pauses everybody for the
+ * server's {@code Retry-After} (or the default cooldown). A caller whose slot is further away than {@code maxWait}
+ * fails fast with {@link RateLimitWaitExceededException} rather than holding its request thread.
+ */
+@Slf4j
+@Component
+public class AdaptiveRateLimiter {
+
+    private static final double JITTER_FRACTION = 0.2;
+
+    private final double minRate;
+    private final double maxRate;
+    private final double burst;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final long cooldownNanos;
+    private final long maxWaitNanos;
+    private final double notModifiedCost;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitedNanos = new LongAdder();
+
+    // Guarded by lock.
+    private double rate;
+    private long nextFreeNanos = System.nanoTime();
+    private long pausedUntilNanos = System.nanoTime();
+
+    public AdaptiveRateLimiter(
+            double initialRate,
+            double minRate,
+            double maxRate,
+            double burst,
+            double increaseStep,
+            double decreaseFactor,
+            Duration cooldown,
+            Duration maxWait) {
+        this(initialRate, minRate, maxRate, burst, increaseStep, decreaseFactor, cooldown, maxWait, 1);
+    }
+
+    /**
+     * @param notModifiedCost the share of a slot the mock server charges for a {@code 304 Not Modified}, from 0 to 1
+     */
+    @Autowired
+    public AdaptiveRateLimiter(
+            @Value("${employee.upstream.rate-limit.initial-rate:5}") double initialRate,
+            @Value("${employee.upstream.rate-limit.min-rate:0.1}") double minRate,
+            @Value("${employee.upstream.rate-limit.max-rate:20}") double maxRate,
+            @Value("${employee.upstream.rate-limit.burst:5}") double burst,
+            @Value("${employee.upstream.rate-limit.increase-step:0.05}") double increaseStep,
+            @Value("${employee.upstream.rate-limit.decrease-factor:0.5}") double decreaseFactor,
+            @Value("${employee.upstream.rate-limit.cooldown:1s}") Duration cooldown,
+            @Value("${employee.upstream.rate-limit.max-wait:2s}") Duration maxWait,
+            @Value("${employee.upstream.rate-limit.not-modified-cost:0.25}") double notModifiedCost) {
+        if (minRate <= 0 || minRate > initialRate || initialRate > maxRate) {
+            throw new IllegalArgumentException("Rate limits must satisfy 0 < min-rate <= initial-rate <= max-rate");
+        }
+        if (burst < 1 || decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("burst must be >= 1 and decrease-factor must be in (0, 1)");
+        }
+        if (notModifiedCost < 0 || notModifiedCost > 1) {
+            throw new IllegalArgumentException("not-modified-cost must be between 0 and 1");
+        }
+        this.rate = initialRate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.burst = burst;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.cooldownNanos = cooldown.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.notModifiedCost = notModifiedCost;
+    }
+
+    /**
+     * Waits for the caller's turn to call upstream.
+     *
+     * @throws RateLimitWaitExceededException if the turn is further away than the configured maximum wait
+     * @throws RateLimitWaitInterruptedException if the thread is interrupted while waiting, with its interrupt flag set
+     */
+    public void acquire(String opDesc) {
+        Duration wait = reserve(opDesc);
+        if (!wait.isZero()) {
+            park(wait.toNanos(), opDesc);
+        }
+    }
+
+    /**
+     * Reserves the caller's turn to call upstream without waiting for it, for callers that wait without holding a
+     * thread. The caller must not call upstream before the returned delay has passed.
+     *
+     * @throws RateLimitWaitExceededException if the turn is further away than the configured maximum wait
+     */
+    public Duration reserve(String opDesc) {
+        long waitNanos;
+        long intervalNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            intervalNanos = intervalNanos();
+            long burstToleranceNanos = (long) ((burst - 1) * intervalNanos);
+            long slot = Math.max(Math.max(now, pausedUntilNanos), nextFreeNanos - burstToleranceNanos);
+            waitNanos = slot - now;
+            if (waitNanos > maxWaitNanos) {
+                throw new RateLimitWaitExceededException(
+                        "Mock API rate limit reached, not waiting to " + opDesc, Duration.ofNanos(waitNanos));
+            }
+            nextFreeNanos = Math.max(nextFreeNanos, slot) + intervalNanos;
+        } finally {
+            lock.unlock();
+        }
+
+        if (waitNanos <= 0) {
+            return Duration.ZERO;
+        }
+        long jitterNanos = (long) (ThreadLocalRandom.current().nextDouble(JITTER_FRACTION) * intervalNanos);
+        log.debug("[{}] queued {} ms for upstream slot", opDesc, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        long delayNanos = Math.min(waitNanos + jitterNanos, maxWaitNanos);
+        waits.increment();
+        waitedNanos.add(delayNanos);
+        return Duration.ofNanos(delayNanos);
+    }
+
+    /**
+     * Records that a call was answered {@code 304 Not Modified}, which the mock server charges only
+     * {@code notModifiedCost} of a slot for: the rest of the slot is given back, so the next caller's turn comes that
+     * much sooner. Nothing is given back while the schedule is idle anyway.
+     */
+    public void onNotModified() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (nextFreeNanos > now) {
+                nextFreeNanos = Math.max(now, nextFreeNanos - (long) ((1 - notModifiedCost) * intervalNanos()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            rate = Math.min(maxRate, rate + increaseStep);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a 429. Responses to requests that were already in flight when the first one arrived only extend the
+     * pause, so a single throttling window halves the rate once rather than once per outstanding request.
+     */
+    public void onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long pauseNanos = retryAfter != null ? retryAfter.toNanos() : cooldownNanos;
+            if (now >= pausedUntilNanos) {
+                rate = Math.max(minRate, rate * decreaseFactor);
+            }
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + pauseNanos);
+            nextFreeNanos = Math.max(nextFreeNanos, pausedUntilNanos);
+            log.warn(
+                    "Upstream throttled; pacing at {} req/s, paused for {} ms",
+                    String.format("%.2f", rate),
+                    TimeUnit.NANOSECONDS.toMillis(pausedUntilNanos - now));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** How long a caller arriving now would have to wait for its slot. */
+    public Duration estimatedWait() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long burstToleranceNanos = (long) ((burst - 1) * intervalNanos());
+            long slot = Math.max(Math.max(now, pausedUntilNanos), nextFreeNanos - burstToleranceNanos);
+            return Duration.ofNanos(slot - now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** How many callers of {@link #acquire} or {@link #reserve} had to wait for their slot. */
+    public long waits() {
+        return waits.sum();
+    }
+
+    /** Total time callers of {@link #acquire} or {@link #reserve} spent waiting for their slot. */
+    public long waitedNanos() {
+        return waitedNanos.sum();
+    }
+
+    public double currentRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Parses a {@code Retry-After} header value, given either as delay-seconds or as an HTTP-date.
+     *
+     * @return the delay, or null when the value is absent or unparseable
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // Not delay-seconds; try the HTTP-date form.
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable Retry-After: {}", value);
+            return null;
+        }
+    }
+
+    private long intervalNanos() {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+
+    private static void park(long nanos, String opDesc) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new RateLimitWaitInterruptedException("Interrupted while waiting to " + opDesc);
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps the calls to the mock server each operation keeps in flight at {@code maxConcurrent}, so a slow or stuck
+ * operation holds at most that many request threads and leaves the rest to the others. A caller that finds its
+ * operation full waits up to {@code maxWait} for a call to finish, then fails with
+ * {@link UpstreamUnavailableException}.
+ */
+@Slf4j
+@Component
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final ConcurrentHashMap<String, Semaphore> compartments = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public Bulkhead(
+            @Value("${employee.upstream.bulkhead.max-concurrent:20}") int maxConcurrent,
+            @Value("${employee.upstream.bulkhead.max-wait:500ms}") Duration maxWait) {
+        if (maxConcurrent < 1 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("max-concurrent must be positive and max-wait not negative");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Takes one of {@code opDesc}'s places, to be given back by closing the returned permit.
+     *
+     * @throws UpstreamUnavailableException if no place came free within the maximum wait
+     */
+    public Permit acquire(String opDesc) {
+        Semaphore compartment = compartments.computeIfAbsent(opDesc, key -> new Semaphore(maxConcurrent));
+        boolean acquired;
+        try {
+            acquired = compartment.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            log.warn("[{}] already has {} calls in flight to the mock server", opDesc, maxConcurrent);
+            throw new UpstreamUnavailableException(
+                    "Too many concurrent calls to the mock API to " + opDesc, Duration.ofNanos(maxWaitNanos));
+        }
+        return compartment::release;
+    }
+
+    /** Calls to {@code opDesc} currently in flight. */
+    public int inFlight(String opDesc) {
+        Semaphore compartment = compartments.get(opDesc);
+        return compartment == null ? 0 : maxConcurrent - compartment.availablePermits();
+    }
+
+    /** Calls turned away because their operation was full. */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /** A place taken in an operation's compartment. */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
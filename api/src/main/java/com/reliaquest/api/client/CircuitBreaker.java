@@ -0,0 +1,232 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-wide circuit breaker in front of the mock server.
+ *
+ * <p>While {@link State#CLOSED} every call goes through. {@code failureThreshold} failed calls in a row, such as
+ * timeouts, 5xx or a rate limit that outlasted every retry, open the circuit: for {@code openDuration} calls fail fast
+ * with {@link UpstreamUnavailableException} instead of piling up on a server that is down or throttling. After that the
+ * circuit is {@link State#HALF_OPEN} and lets {@code halfOpenProbes} calls through as probes; the first to succeed
+ * closes it again and the first to fail opens it for another {@code openDuration}.
+ *
+ * <p>Each call reports its outcome through the {@link Permit} it was let through with. Outcomes of calls let through
+ * before the last change of state are ignored: a slow call admitted while closed cannot close a circuit that has
+ * opened since, nor free a half-open probe it never held.
+ *
+ * <p>Every change of state is logged and passed to the registered listeners.
+ */
+@Slf4j
+@Component
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /** A change of state, from {@code from} to {@code to}. */
+    public record Transition(State from, State to) {}
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Consumer<Transition>> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder rejected = new LongAdder();
+
+    // Guarded by lock.
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private int probes;
+    private long generation;
+
+    @Autowired
+    public CircuitBreaker(
+            @Value("${employee.upstream.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${employee.upstream.circuit-breaker.open-duration:10s}") Duration openDuration,
+            @Value("${employee.upstream.circuit-breaker.half-open-probes:1}") int halfOpenProbes) {
+        this(failureThreshold, openDuration, halfOpenProbes, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, int halfOpenProbes, @NonNull LongSupplier nanoClock) {
+        if (failureThreshold < 1 || halfOpenProbes < 1 || openDuration.isNegative()) {
+            throw new IllegalArgumentException(
+                    "failure-threshold and half-open-probes must be positive and open-duration not negative");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Lets a call to {@code opDesc} through, or fails it fast. Every call let through must be followed by exactly one
+     * {@link Permit#onSuccess()}, {@link Permit#onFailure()} or {@link Permit#release()} on the returned permit.
+     *
+     * @throws UpstreamUnavailableException while the circuit is open, or half-open with every probe already in flight
+     */
+    public Permit acquirePermission(String opDesc) {
+        Transition transition = null;
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (state == State.OPEN && now - openedAtNanos >= openNanos) {
+                transition = moveTo(State.HALF_OPEN, now);
+            }
+            if (state == State.CLOSED) {
+                return new Permit(generation);
+            }
+            if (state == State.HALF_OPEN && probes < halfOpenProbes) {
+                probes++;
+                return new Permit(generation);
+            }
+            rejected.increment();
+            Duration retryAfter = Duration.ofNanos(Math.max(0, openedAtNanos + openNanos - now));
+            throw new UpstreamUnavailableException(
+                    "Mock API circuit is " + state + ", not calling it to " + opDesc, retryAfter);
+        } finally {
+            lock.unlock();
+            notify(transition);
+        }
+    }
+
+    private void onSuccess(long admittedIn) {
+        Transition transition = null;
+        lock.lock();
+        try {
+            if (admittedIn != generation) {
+                return;
+            }
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                transition = moveTo(State.CLOSED, nanoClock.getAsLong());
+            }
+        } finally {
+            lock.unlock();
+            notify(transition);
+        }
+    }
+
+    private void onFailure(long admittedIn) {
+        Transition transition = null;
+        lock.lock();
+        try {
+            if (admittedIn != generation) {
+                return;
+            }
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                transition = moveTo(State.OPEN, nanoClock.getAsLong());
+            }
+        } finally {
+            lock.unlock();
+            notify(transition);
+        }
+    }
+
+    private void release(long admittedIn) {
+        lock.lock();
+        try {
+            if (admittedIn == generation && state == State.HALF_OPEN && probes > 0) {
+                probes--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Registers {@code listener} for every later change of state; it runs on the thread that caused the change. */
+    public void addListener(@NonNull Consumer<Transition> listener) {
+        listeners.add(listener);
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Calls failed fast because the circuit was open. */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private Transition moveTo(State next, long now) {
+        Transition transition = new Transition(state, next);
+        state = next;
+        probes = 0;
+        generation++;
+        if (next == State.OPEN) {
+            openedAtNanos = now;
+        } else if (next == State.CLOSED) {
+            consecutiveFailures = 0;
+        }
+        return transition;
+    }
+
+    private void notify(Transition transition) {
+        if (transition == null) {
+            return;
+        }
+        if (transition.to() == State.OPEN) {
+            log.warn(
+                    "Mock API circuit {} -> OPEN; failing fast for {} ms",
+                    transition.from(),
+                    TimeUnit.NANOSECONDS.toMillis(openNanos));
+        } else {
+            log.info("Mock API circuit {} -> {}", transition.from(), transition.to());
+        }
+        listeners.forEach(listener -> listener.accept(transition));
+    }
+
+    /** A call let through by {@link #acquirePermission}, tied to the state it was let through in. */
+    public final class Permit {
+
+        // The breaker's generation when the call was let through; it moves on with every change of state.
+        private final long admittedIn;
+
+        private Permit(long admittedIn) {
+            this.admittedIn = admittedIn;
+        }
+
+        /** Records a call the mock server answered, even with a client error such as a 404. */
+        public void onSuccess() {
+            CircuitBreaker.this.onSuccess(admittedIn);
+        }
+
+        /** Records a call the mock server did not answer usefully: unreachable, timed out, failing or throttling. */
+        public void onFailure() {
+            CircuitBreaker.this.onFailure(admittedIn);
+        }
+
+        /**
+         * Records a call that never reached the mock server, say because the api's own rate limiter turned it down or
+         * its thread was interrupted: a half-open probe is freed for another call, and nothing else changes.
+         */
+        public void release() {
+            CircuitBreaker.this.release(admittedIn);
+        }
+    }
+}
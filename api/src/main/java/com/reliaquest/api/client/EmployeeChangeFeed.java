@@ -0,0 +1,183 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps {@link EmployeeCache} a live mirror of the mock server by following its change feed at
+ * {@code /api/v1/employee/changes}, so reads stay within milliseconds of the upstream without fetching the full list
+ * again.
+ *
+ * <p>The first connection starts with a {@code SNAPSHOT} of every employee; after that only {@code ADDED} and
+ * {@code REMOVED} events arrive. A dropped connection is resumed from the last event seen, with backoff: the server
+ * replays the changes missed and confirms with {@code RESUMED}, or sends a fresh snapshot when it no longer holds every
+ * change since. While disconnected the cache falls back to expiring and reloading as usual. A stream that stays silent
+ * for {@code idle-timeout}, several of the server's heartbeats, is taken for dropped.
+ *
+ * <p>A stream the server ends normally, when it times out or shuts down, is reconnected with the same backoff as a
+ * failed one. The backoff doubles from {@code min-backoff} up to {@code max-backoff} with every reconnect in a row,
+ * and starts over once a reconnect is confirmed by a {@code SNAPSHOT} or {@code RESUMED}.
+ *
+ * <p>Events are applied one at a time off the connection's event loop, as applying a snapshot may wait for a reload
+ * already in flight.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "employee.upstream.change-feed.enabled", havingValue = "true")
+public class EmployeeChangeFeed {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<JsonNode>> EVENT =
+            new ParameterizedTypeReference<>() {};
+    private static final TypeReference<List<Employee>> EMPLOYEE_LIST = new TypeReference<>() {};
+
+    private final EmployeeCache employeeCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final WebClient webClient;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicInteger reconnectsInARow = new AtomicInteger();
+
+    private volatile String lastEventId;
+    private volatile Disposable subscription;
+
+    public EmployeeChangeFeed(
+            EmployeeCache employeeCache,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            WebClient.Builder builder,
+            @Value("${employee.upstream.base-url:" + EmployeeService.DEFAULT_BASE_URL + "}") String baseUrl,
+            @Value("${employee.upstream.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.upstream.change-feed.idle-timeout:45s}") Duration idleTimeout,
+            @Value("${employee.upstream.change-feed.min-backoff:100ms}") Duration minBackoff,
+            @Value("${employee.upstream.change-feed.max-backoff:10s}") Duration maxBackoff) {
+        this.employeeCache = employeeCache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(idleTimeout);
+        this.webClient = builder.baseUrl(baseUrl + "/changes")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        Gauge.builder("employee.change-feed.mirrored", employeeCache, cache -> cache.isMirrored() ? 1 : 0)
+                .description("Whether the employee cache is currently mirrored from the change feed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        subscription = Flux.defer(this::connect)
+                .repeatWhen(ends -> ends.concatMap(ignored -> reconnectAfterBackoff("ended")))
+                .retryWhen(Retry.from(failures -> failures.concatMap(
+                        signal -> reconnectAfterBackoff("dropped: " + signal.failure().getMessage()))))
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(this::apply, e -> log.error("Change feed stopped", e));
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private Flux<ServerSentEvent<JsonNode>> connect() {
+        return webClient
+                .get()
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", lastEventId);
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(EVENT)
+                .doOnSubscribe(s -> log.debug("Following the change feed after {}", lastEventId))
+                .doOnTerminate(employeeCache::stopMirroring)
+                .doOnCancel(employeeCache::stopMirroring);
+    }
+
+    private Mono<Long> reconnectAfterBackoff(String reason) {
+        Duration backoff = nextBackoff();
+        log.warn(
+                "Change feed {}, reconnecting in {} ms (attempt {})",
+                reason,
+                backoff.toMillis(),
+                reconnectsInARow.get());
+        return Mono.delay(backoff);
+    }
+
+    /**
+     * The wait before the next reconnect: {@code minBackoff} doubled for every earlier reconnect in a row, plus up to
+     * half of that again as jitter so clients dropped together do not return together, and never over
+     * {@code maxBackoff}.
+     */
+    Duration nextBackoff() {
+        int attempt = reconnectsInARow.incrementAndGet();
+        Duration backoff = minBackoff.multipliedBy(1L << Math.min(attempt - 1, 30));
+        backoff = backoff.plusNanos(ThreadLocalRandom.current().nextLong(backoff.toNanos() / 2 + 1));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /** Applies one event to the cache; comments such as heartbeats carry no event name and are skipped. */
+    void apply(ServerSentEvent<JsonNode> event) {
+        if (event.event() == null || event.data() == null) {
+            return;
+        }
+        switch (event.event()) {
+            case "SNAPSHOT" -> {
+                employeeCache.mirror(objectMapper.convertValue(event.data(), EMPLOYEE_LIST));
+                reconnectsInARow.set(0);
+            }
+            case "ADDED" -> employeeCache.put(objectMapper.convertValue(event.data(), Employee.class));
+            case "REMOVED" -> employeeCache.remove(event.data().path("id").asText());
+            case "RESUMED" -> {
+                employeeCache.resumeMirroring();
+                reconnectsInARow.set(0);
+            }
+            default -> {
+                log.debug("Ignoring unknown change feed event {}", event.event());
+                return;
+            }
+        }
+        lastEventId = event.id();
+        meterRegistry
+                .counter("employee.change-feed.events", "type", event.event())
+                .increment();
+    }
+}
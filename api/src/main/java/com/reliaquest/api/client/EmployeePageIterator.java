@@ -0,0 +1,47 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Walks a cursor-paged employee listing lazily: the next page is requested only once every employee of the current
+ * one has been consumed, so at most one page is held in memory at a time.
+ */
+public class EmployeePageIterator implements Iterator<Employee> {
+
+    private final Function<String, ApiResponse<List<Employee>>> fetchPage;
+    private Iterator<Employee> page = List.<Employee>of().iterator();
+    private String nextCursor;
+    private boolean lastPageFetched;
+
+    /**
+     * @param fetchPage fetches the page following the given cursor, or the first page when the cursor is null
+     */
+    public EmployeePageIterator(Function<String, ApiResponse<List<Employee>>> fetchPage) {
+        this.fetchPage = fetchPage;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && !lastPageFetched) {
+            ApiResponse<List<Employee>> response = fetchPage.apply(nextCursor);
+            List<Employee> employees = response.data() == null ? List.of() : response.data();
+            page = employees.iterator();
+            nextCursor = response.nextCursor();
+            lastPageFetched = nextCursor == null;
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public Employee next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+}
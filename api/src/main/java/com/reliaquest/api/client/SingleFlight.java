@@ -0,0 +1,78 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collapses concurrent identical calls into one. The first caller for a key runs the call; callers that arrive while
+ * it is still in flight wait for and share its result, or its exception. Nothing is cached once the call completes.
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> call) {
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.increment();
+            log.debug("Coalesced call onto in-flight {}", key);
+            return (T) await(existing, key);
+        }
+
+        executed.increment();
+        try {
+            T result = call.call();
+            leader.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } catch (Exception e) {
+            RuntimeException wrapped = new RuntimeException(e);
+            leader.completeExceptionally(wrapped);
+            throw wrapped;
+        } catch (Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    /** Number of calls that actually ran. */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /** Number of calls that were answered by another caller's in-flight call. */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static Object await(CompletableFuture<Object> future, String key) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight " + key, e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("In-flight " + key + " was cancelled", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
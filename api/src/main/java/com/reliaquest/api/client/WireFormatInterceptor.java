@@ -0,0 +1,107 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Negotiates a compact encoding for mock server responses. Every request asks for {@code format} first, with JSON as
+ * the fallback for servers that do not speak it, and with {@code gzip} also offers to take a gzipped body, which it
+ * inflates while the body is read. The JDK's {@code HttpURLConnection} behind {@code RestTemplate} does neither.
+ */
+public class WireFormatInterceptor implements ClientHttpRequestInterceptor {
+
+    private final List<MediaType> accept;
+    private final boolean gzip;
+
+    public WireFormatInterceptor(@NonNull WireFormat format, boolean gzip) {
+        this.accept = format.accept();
+        this.gzip = gzip;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        request.getHeaders().setAccept(accept);
+        if (!gzip) {
+            return execution.execute(request, body);
+        }
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        ClientHttpResponse response = execution.execute(request, body);
+        return "gzip".equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))
+                ? new GzipResponse(response)
+                : response;
+    }
+
+    /** Response encodings the api can ask the mock server for. */
+    public enum WireFormat {
+        JSON(MediaType.APPLICATION_JSON),
+        /**
+         * Binary JSON, which the mock server answers with when {@code jackson-dataformat-smile} is on its classpath.
+         */
+        SMILE(new MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_JSON.withQualityValue(0.9));
+
+        private final List<MediaType> accept;
+
+        WireFormat(MediaType... accept) {
+            this.accept = List.of(accept);
+        }
+
+        List<MediaType> accept() {
+            return accept;
+        }
+    }
+
+    /** {@code response} with its body inflated and the headers describing the body as it is now read. */
+    private static final class GzipResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private final HttpHeaders headers;
+        private InputStream body;
+
+        GzipResponse(ClientHttpResponse response) {
+            this.response = response;
+            this.headers = new HttpHeaders();
+            this.headers.putAll(response.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new GZIPInputStream(response.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
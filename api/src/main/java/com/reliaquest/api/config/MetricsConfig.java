@@ -0,0 +1,87 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.Bulkhead;
+import com.reliaquest.api.client.CircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the cache's, the rate limiter's and the circuit breaker's own statistics. Endpoint latencies
+ * ({@code http.server.requests}) and outbound calls ({@code http.client.requests}) are recorded by Spring Boot itself.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder employeeCacheMetrics(EmployeeCache employeeCache) {
+        return registry -> {
+            FunctionCounter.builder("employee.cache.requests", employeeCache, EmployeeCache::hits)
+                    .description("Employee reads answered from the cached snapshot")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.requests", employeeCache, EmployeeCache::misses)
+                    .description("Employee reads that had to go to the mock server")
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.requests", employeeCache, EmployeeCache::staleHits)
+                    .description("Employee reads answered from an expired snapshot because reloading it failed")
+                    .tag("result", "stale")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder upstreamRateLimiterMetrics(AdaptiveRateLimiter rateLimiter) {
+        return registry -> {
+            FunctionTimer.builder(
+                            "employee.upstream.rate-limit.wait",
+                            rateLimiter,
+                            AdaptiveRateLimiter::waits,
+                            AdaptiveRateLimiter::waitedNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("Time spent waiting for a slot to call the mock server")
+                    .register(registry);
+            Gauge.builder("employee.upstream.rate-limit.rate", rateLimiter, AdaptiveRateLimiter::currentRate)
+                    .description("Requests per second currently allowed to the mock server")
+                    .baseUnit("requests")
+                    .register(registry);
+        };
+    }
+
+    /** One gauge per state, 1 for the state the circuit is in and 0 for the others, plus a count of transitions. */
+    @Bean
+    public MeterBinder upstreamCircuitBreakerMetrics(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        return registry -> {
+            for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+                Gauge.builder(
+                                "employee.upstream.circuit.state",
+                                circuitBreaker,
+                                breaker -> breaker.state() == state ? 1 : 0)
+                        .description("Whether the circuit in front of the mock server is in this state")
+                        .tag("state", state.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+            circuitBreaker.addListener(transition -> registry.counter(
+                            "employee.upstream.circuit.transitions",
+                            "from",
+                            transition.from().name().toLowerCase(Locale.ROOT),
+                            "to",
+                            transition.to().name().toLowerCase(Locale.ROOT))
+                    .increment());
+            FunctionCounter.builder("employee.upstream.circuit.rejected", circuitBreaker, CircuitBreaker::rejected)
+                    .description("Calls to the mock server failed fast while the circuit was open")
+                    .register(registry);
+            FunctionCounter.builder("employee.upstream.bulkhead.rejected", bulkhead, Bulkhead::rejected)
+                    .description("Calls to the mock server turned away because their operation was full")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.service.EmployeeService;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/** Beans of the reactive profile, which serves the api on WebFlux and calls the mock server with a WebClient. */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * Tomcat is on the classpath for the servlet stack and would otherwise be picked to run the reactive one too;
+     * Netty serves each connection without a thread of its own.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * The mock server is reached through a pool of at most {@code maxConcurrency} connections, which bounds the calls
+     * in flight to it; further calls queue without holding a thread until a connection is released, and fail with a
+     * {@link org.springframework.web.reactive.function.client.WebClientRequestException} once they have waited for
+     * {@code readTimeout}.
+     */
+    @Bean
+    public WebClient employeeWebClient(
+            WebClient.Builder builder,
+            @Value("${employee.upstream.base-url:" + EmployeeService.DEFAULT_BASE_URL + "}") String baseUrl,
+            @Value("${employee.upstream.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.upstream.read-timeout:5s}") Duration readTimeout,
+            @Value("${employee.upstream.max-concurrency:50}") int maxConcurrency) {
+        ConnectionProvider connections = ConnectionProvider.builder("employee-upstream")
+                .maxConnections(maxConcurrency)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(readTimeout)
+                .build();
+        HttpClient httpClient = HttpClient.create(connections)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        return builder.baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -1,13 +1,34 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.WireFormatInterceptor;
+import com.reliaquest.api.client.WireFormatInterceptor.WireFormat;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@Profile("!reactive")
 public class RestTemplateConfig {
+
+    /**
+     * Without timeouts a stalled mock server would hold request threads indefinitely; a timed out call surfaces as a
+     * {@link org.springframework.web.client.ResourceAccessException}. Responses are negotiated in {@code wireFormat},
+     * gzipped when {@code gzip} is set.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            @Value("${employee.upstream.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.upstream.read-timeout:5s}") Duration readTimeout,
+            @Value("${employee.upstream.wire-format:SMILE}") WireFormat wireFormat,
+            @Value("${employee.upstream.gzip:true}") boolean gzip) {
+        return builder.setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .additionalInterceptors(new WireFormatInterceptor(wireFormat, gzip))
+                .build();
     }
 }
@@ -1,17 +1,27 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.cache.Snapshot;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.BulkRequests;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 public class EmployeeController implements IEmployeeController<Employee, EmployeeInput> {
 
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
     private final EmployeeService employeeService;
 
     public EmployeeController(EmployeeService employeeService) {
@@ -21,13 +31,13 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.info("[API] GET /");
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+        return snapshotResponse(employeeService.getAllEmployees());
     }
 
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         log.info("[API] GET /search/{}", searchString);
-        return ResponseEntity.ok(employeeService.searchEmployeesByName(searchString));
+        return snapshotResponse(employeeService.searchEmployeesByName(searchString));
     }
 
     @Override
@@ -39,13 +49,13 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("[API] GET /highestSalary");
-        return ResponseEntity.ok(employeeService.getHighestSalary());
+        return snapshotResponse(employeeService.getHighestSalary());
     }
 
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("[API] GET /topTenHighestEarningEmployeeNames");
-        return ResponseEntity.ok(employeeService.getTop10HighestEarningNames());
+        return snapshotResponse(employeeService.getTop10HighestEarningNames());
     }
 
     @Override
@@ -56,7 +66,34 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
 
     @Override
     public ResponseEntity<String> deleteEmployeeById(String id) {
-        log.info("[API] DELETE /{} (lookup name via GET /{})", id, id);
+        log.info("[API] DELETE /{}", id);
         return ResponseEntity.ok(employeeService.deleteEmployee(id));
     }
+
+    /** Creates every employee in the body, answering 207 when only some of them could be created. */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResult<Employee>> createEmployees(@RequestBody List<EmployeeInput> employeeInputs) {
+        log.info("[API] POST /bulk ({} employees)", employeeInputs.size());
+        return BulkRequests.response(employeeService.createEmployees(employeeInputs));
+    }
+
+    /** Looks up every id in the body, answering 207 when only some of them were found. */
+    @PostMapping("/bulk/lookup")
+    public ResponseEntity<BulkResult<Employee>> getEmployeesByIds(@RequestBody List<String> ids) {
+        log.info("[API] POST /bulk/lookup ({} ids)", ids.size());
+        return BulkRequests.response(employeeService.getEmployeesByIds(ids));
+    }
+
+    /**
+     * {@code snapshot}'s value, marked with the cached list's {@code Age} and a stale {@code Warning} when it was
+     * served stale because the mock server could not be reloaded from.
+     */
+    static <T> ResponseEntity<T> snapshotResponse(Snapshot<T> snapshot) {
+        return snapshot.staleness()
+                .map(age -> ResponseEntity.ok()
+                        .header(HttpHeaders.AGE, String.valueOf(age.toSeconds()))
+                        .header(HttpHeaders.WARNING, STALE_WARNING)
+                        .body(snapshot.value()))
+                .orElseGet(() -> ResponseEntity.ok(snapshot.value()));
+    }
 }
@@ -0,0 +1,90 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.BulkResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.BulkRequests;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@link IEmployeeController} contract on the reactive stack, active with the reactive profile: the same paths,
+ * request bodies and JSON responses, with errors mapped by the same handler. Its return types cannot be expressed
+ * through that interface, so the mappings are repeated here.
+ */
+@Slf4j
+@RestController
+@Profile("reactive")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public Flux<Employee> getAllEmployees() {
+        log.info("[API] GET /");
+        return employeeService.getAllEmployees();
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Flux<Employee> getEmployeesByNameSearch(@PathVariable String searchString) {
+        log.info("[API] GET /search/{}", searchString);
+        return employeeService.searchEmployeesByName(searchString);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Employee> getEmployeeById(@PathVariable String id) {
+        log.info("[API] GET /{}", id);
+        return employeeService.getEmployeeById(id);
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        log.info("[API] GET /highestSalary");
+        return employeeService.getHighestSalary();
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        log.info("[API] GET /topTenHighestEarningEmployeeNames");
+        return employeeService.getTop10HighestEarningNames();
+    }
+
+    @PostMapping()
+    public Mono<Employee> createEmployee(@RequestBody EmployeeInput employeeInput) {
+        log.info("[API] POST / (name={})", employeeInput.getName());
+        return employeeService.createEmployee(employeeInput);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<String> deleteEmployeeById(@PathVariable String id) {
+        log.info("[API] DELETE /{}", id);
+        return employeeService.deleteEmployee(id);
+    }
+
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<BulkResult<Employee>>> createEmployees(@RequestBody List<EmployeeInput> employeeInputs) {
+        log.info("[API] POST /bulk ({} employees)", employeeInputs.size());
+        return employeeService.createEmployees(employeeInputs).map(BulkRequests::response);
+    }
+
+    @PostMapping("/bulk/lookup")
+    public Mono<ResponseEntity<BulkResult<Employee>>> getEmployeesByIds(@RequestBody List<String> ids) {
+        log.info("[API] POST /bulk/lookup ({} ids)", ids.size());
+        return employeeService.getEmployeesByIds(ids).map(BulkRequests::response);
+    }
+}
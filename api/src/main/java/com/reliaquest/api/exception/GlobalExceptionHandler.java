@@ -1,8 +1,10 @@
 package com.reliaquest.api.exception;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,12 +14,17 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class GlobalExceptionHandler {
 
     private ResponseEntity<Object> buildErrorResponse(HttpStatus status, String error, String message) {
+        return buildErrorResponse(status, error, message, HttpHeaders.EMPTY);
+    }
+
+    private ResponseEntity<Object> buildErrorResponse(
+            HttpStatus status, String error, String message, HttpHeaders headers) {
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", ZonedDateTime.now());
         body.put("status", status.value());
         body.put("error", error);
         body.put("message", message);
-        return new ResponseEntity<>(body, status);
+        return new ResponseEntity<>(body, headers, status);
     }
 
     @ExceptionHandler(InvalidUUIDException.class)
@@ -25,13 +32,40 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Bad Request", e.getMessage());
     }
 
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<Object> handleInvalidBulkRequest(InvalidBulkRequestException e) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Bad Request", e.getMessage());
+    }
+
     @ExceptionHandler(EmployeeNotFoundException.class)
     public ResponseEntity<Object> handleEmployeeNotFound(EmployeeNotFoundException e) {
         return buildErrorResponse(HttpStatus.NOT_FOUND, "Employee Not Found", e.getMessage());
     }
 
+    @ExceptionHandler(UpstreamRateLimitedException.class)
+    public ResponseEntity<Object> handleUpstreamRateLimited(UpstreamRateLimitedException e) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(e.getRetryAfter())));
+        return buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", e.getMessage(), headers);
+    }
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<Object> handleUpstreamUnavailable(UpstreamUnavailableException e) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(e.getRetryAfter())));
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", e.getMessage(), headers);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Object> handleRuntime(RuntimeException e) {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", e.getMessage());
     }
+
+    private static long retryAfterSeconds(Duration retryAfter) {
+        if (retryAfter == null) {
+            return 1;
+        }
+        // Round up so clients never come back before the wait is over.
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
 }
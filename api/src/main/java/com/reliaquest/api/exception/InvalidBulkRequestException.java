@@ -0,0 +1,7 @@
+package com.reliaquest.api.exception;
+
+public class InvalidBulkRequestException extends RuntimeException {
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+
+/**
+ * The api's own rate limiter turned a call down before it reached the mock server, as its turn was further off than
+ * the limiter's maximum wait. Answered like any other rate limit, but says nothing about the mock server's health.
+ */
+public class RateLimitWaitExceededException extends UpstreamRateLimitedException {
+
+    public RateLimitWaitExceededException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
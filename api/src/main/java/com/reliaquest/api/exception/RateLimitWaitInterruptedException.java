@@ -0,0 +1,12 @@
+package com.reliaquest.api.exception;
+
+/**
+ * A caller was interrupted while waiting for its turn on the api's own rate limiter, so its call never reached the mock
+ * server. The thread's interrupt flag is set again before this is thrown.
+ */
+public class RateLimitWaitInterruptedException extends RuntimeException {
+
+    public RateLimitWaitInterruptedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+
+/** The mock server is not being called right now: its circuit is open, or too many calls to it are in flight. */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.exception;
+
+/** The mock server could not be reached at all: the connection was refused or timed out. */
+public class UpstreamUnreachableException extends RuntimeException {
+
+    public UpstreamUnreachableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Envelope the mock server wraps every payload in. Bound directly by Jackson, so {@code data} is decoded straight into
+ * its target type and unknown fields are skipped without building intermediate maps. Paged listings also carry the
+ * {@code next_cursor} of the following page.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ApiResponse<T>(T data, String status, String error, @JsonProperty("next_cursor") String nextCursor) {
+
+    public ApiResponse(T data, String status, String error) {
+        this(data, status, error, null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+
+/**
+ * Outcome of a bulk request: one item per input, in input order, each with the HTTP status the single-item endpoint
+ * would have answered. A partial failure is not an error, so callers resubmit just the failed items.
+ */
+public record BulkResult<T>(int succeeded, int failed, List<Item<T>> items) {
+
+    public static <T> BulkResult<T> of(List<Item<T>> items) {
+        int succeeded = (int) items.stream().filter(Item::isSuccess).count();
+        return new BulkResult<>(succeeded, items.size() - succeeded, List.copyOf(items));
+    }
+
+    /** @param index position of the input in the request */
+    public record Item<T>(int index, int status, T data, String error) {
+
+        public static <T> Item<T> success(int index, T data) {
+            return new Item<>(index, 200, data, null);
+        }
+
+        public static <T> Item<T> failure(int index, int status, String error) {
+            return new Item<>(index, status, null, error);
+        }
+
+        @JsonIgnore
+        public boolean isSuccess() {
+            return status == 200;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.reliaquest.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class Employee {
     private String id;
     private String employee_name;
@@ -0,0 +1,54 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidBulkRequestException;
+import com.reliaquest.api.exception.InvalidUUIDException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.BulkResult;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Bulk request rules shared by the servlet and reactive implementations of the api. Each implementation maps the
+ * errors of its own HTTP client to a status itself, and leaves the api's own errors to {@link #itemStatus}.
+ */
+public final class BulkRequests {
+
+    /** Most items a single bulk request may carry. */
+    public static final int MAX_ITEMS = 10_000;
+
+    private BulkRequests() {}
+
+    /** @throws InvalidBulkRequestException if {@code inputs} holds more than {@link #MAX_ITEMS} items */
+    public static void checkSize(List<?> inputs) {
+        if (inputs.size() > MAX_ITEMS) {
+            throw new InvalidBulkRequestException(
+                    "A bulk request may carry at most " + MAX_ITEMS + " items, got " + inputs.size());
+        }
+    }
+
+    /** The status a single-item request failing with {@code e} answers, for errors the api raises itself; else 500. */
+    public static int itemStatus(Throwable e) {
+        if (e instanceof InvalidUUIDException) {
+            return HttpStatus.BAD_REQUEST.value();
+        }
+        if (e instanceof EmployeeNotFoundException) {
+            return HttpStatus.NOT_FOUND.value();
+        }
+        if (e instanceof UpstreamRateLimitedException) {
+            return HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        if (e instanceof UpstreamUnavailableException) {
+            return HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    /** 200 when every item succeeded, 207 Multi-Status when only some did. */
+    public static <T> ResponseEntity<BulkResult<T>> response(BulkResult<T> result) {
+        return ResponseEntity.status(result.failed() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS)
+                .body(result);
+    }
+}
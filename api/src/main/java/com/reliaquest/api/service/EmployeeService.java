@@ -1,44 +1,202 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.Snapshot;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.Bulkhead;
+import com.reliaquest.api.client.CircuitBreaker;
+import com.reliaquest.api.client.EmployeePageIterator;
+import com.reliaquest.api.client.SingleFlight;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.InvalidUUIDException;
+import com.reliaquest.api.exception.RateLimitWaitExceededException;
+import com.reliaquest.api.exception.RateLimitWaitInterruptedException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.exception.UpstreamUnreachableException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 public class EmployeeService {
 
     private final RestTemplate restTemplate;
-    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+    private final EmployeeCache employeeCache;
+    private final SingleFlight singleFlight;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final int pageSize;
+    private final String baseUrl;
+    private final MeterRegistry meterRegistry;
+    private final int bulkConcurrency;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
 
-    public EmployeeService(RestTemplate restTemplate) {
+    // The last full list the mock server sent, under its ETag, to revalidate with If-None-Match.
+    private volatile Validated validated;
+
+    public static final String DEFAULT_BASE_URL = "http://localhost:8112/api/v1/employee";
+    public static final int DEFAULT_BULK_CONCURRENCY = 4;
+
+    /** Times a bulk item whose turn on the rate limiter is too far off is tried, going back on the queue in between. */
+    private static final int BULK_RATE_LIMIT_ATTEMPTS = 3;
+    private static final String BULK_INTERRUPTED = "Interrupted before this item was sent";
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+
+    /**
+     * @param pageSize employees requested per page when loading the full list, or 0 to load it in a single response
+     * @param baseUrl the mock server's employee endpoint
+     * @param bulkConcurrency calls to the mock server a single bulk request keeps in flight at once
+     */
+    @Autowired
+    public EmployeeService(
+            RestTemplate restTemplate,
+            EmployeeCache employeeCache,
+            SingleFlight singleFlight,
+            AdaptiveRateLimiter rateLimiter,
+            @Value("${employee.upstream.page-size:0}") int pageSize,
+            @Value("${employee.upstream.base-url:" + DEFAULT_BASE_URL + "}") String baseUrl,
+            MeterRegistry meterRegistry,
+            @Value("${employee.bulk.concurrency:" + DEFAULT_BULK_CONCURRENCY + "}") int bulkConcurrency,
+            CircuitBreaker circuitBreaker,
+            Bulkhead bulkhead) {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("employee.upstream.page-size must not be negative");
+        }
+        if (bulkConcurrency < 1) {
+            throw new IllegalArgumentException("employee.bulk.concurrency must be positive");
+        }
         this.restTemplate = restTemplate;
+        this.employeeCache = employeeCache;
+        this.singleFlight = singleFlight;
+        this.rateLimiter = rateLimiter;
+        this.pageSize = pageSize;
+        this.baseUrl = baseUrl;
+        this.meterRegistry = meterRegistry;
+        this.bulkConcurrency = bulkConcurrency;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
     }
 
+    /**
+     * Calls the mock server through the {@link Bulkhead}, which caps the calls in flight per operation, and the
+     * {@link CircuitBreaker}, which fails every call fast while the mock server is down or stuck throttling. Only once
+     * both let the call through is it paced and retried by {@link #retry}. The breaker counts its final outcome, unless
+     * the call never reached the mock server because the api's own rate limiter turned it down or it was interrupted
+     * while waiting for its turn.
+     *
+     * <p>A call that got a 429 and then failed counts as a failure however its retries ended: usually the next attempt
+     * is turned down by the rate limiter, which is paused for the server's {@code Retry-After}.
+     */
     private <T> T callWithRetry(java.util.concurrent.Callable<T> fn, String opDesc) {
+        try (Bulkhead.Permit ignored = bulkhead.acquire(opDesc)) {
+            CircuitBreaker.Permit permit = circuitBreaker.acquirePermission(opDesc);
+            AtomicBoolean throttled = new AtomicBoolean();
+            try {
+                T result = retry(fn, opDesc, throttled);
+                permit.onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                if (throttled.get() || isUpstreamFailure(e)) {
+                    permit.onFailure();
+                } else if (neverReachedUpstream(e)) {
+                    permit.release();
+                } else {
+                    permit.onSuccess();
+                }
+                throw e;
+            }
+        } catch (UpstreamUnavailableException e) {
+            meterRegistry
+                    .counter("employee.upstream.rejected", "operation", opDesc)
+                    .increment();
+            throw e;
+        }
+    }
+
+    /** Whether {@code e} says the mock server is unreachable or failing, rather than answering. */
+    private static boolean isUpstreamFailure(RuntimeException e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    /** Whether {@code e} was raised by the api itself before the call went out, rather than by the mock server. */
+    private static boolean neverReachedUpstream(RuntimeException e) {
+        return e instanceof RateLimitWaitExceededException || e instanceof RateLimitWaitInterruptedException;
+    }
+
+    /**
+     * Every attempt waits for its turn on the shared {@link AdaptiveRateLimiter}; a 429 slows the limiter down (and
+     * pauses it for any {@code Retry-After}) so the retry is paced together with every other caller's requests.
+     *
+     * <p>Each attempt's latency is recorded in {@code employee.upstream.requests}, tagged with the operation and its
+     * outcome; retries and exhausted retries are counted per operation. {@code throttled} is set once any attempt is
+     * answered with a 429.
+     */
+    private <T> T retry(java.util.concurrent.Callable<T> fn, String opDesc, AtomicBoolean throttled) {
         int attempts = 3;
-        long backoff = 500;
         for (int i = 1; i <= attempts; i++) {
+            if (i > 1) {
+                meterRegistry.counter("employee.upstream.retries", "operation", opDesc).increment();
+            }
+            rateLimiter.acquire(opDesc);
+            Timer.Sample sample = Timer.start(meterRegistry);
             try {
-                return fn.call();
+                T result = fn.call();
+                sample.stop(upstreamTimer(meterRegistry, opDesc, "success"));
+                rateLimiter.onSuccess();
+                return result;
             } catch (HttpClientErrorException.TooManyRequests e) {
+                sample.stop(upstreamTimer(meterRegistry, opDesc, "throttled"));
+                throttled.set(true);
+                HttpHeaders responseHeaders = e.getResponseHeaders();
+                Duration retryAfter = AdaptiveRateLimiter.parseRetryAfter(
+                        responseHeaders == null ? null : responseHeaders.getFirst(HttpHeaders.RETRY_AFTER));
+                rateLimiter.onThrottled(retryAfter);
                 log.warn("[{}] hit 429 (attempt {}/{})", opDesc, i, attempts);
-                if (i == attempts) throw e;
-                try {
-                    Thread.sleep(backoff);
-                } catch (InterruptedException ignored) {
+                if (i == attempts) {
+                    meterRegistry
+                            .counter("employee.upstream.retries.exhausted", "operation", opDesc)
+                            .increment();
+                    throw new UpstreamRateLimitedException(
+                            "Mock API rate limit still active after " + attempts + " attempts to " + opDesc,
+                            rateLimiter.estimatedWait());
                 }
-                backoff *= 2;
             } catch (Exception e) {
+                sample.stop(upstreamTimer(meterRegistry, opDesc, "error"));
                 if (e instanceof RuntimeException re) throw re;
                 throw new RuntimeException(e);
             }
@@ -46,26 +204,99 @@ public class EmployeeService {
         throw new IllegalStateException("Retry loop unexpectedly exited for " + opDesc);
     }
 
-    public List<Employee> getAllEmployees() {
+    /** Latency of single attempts to call the mock server, shared by both implementations of the api. */
+    static Timer upstreamTimer(MeterRegistry meterRegistry, String opDesc, String outcome) {
+        return Timer.builder("employee.upstream.requests")
+                .description("Latency of single attempts to call the mock server")
+                .tag("operation", opDesc)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * GETs are idempotent, so identical ones that overlap share a single retried call and its result.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> sharedGet(
+            String url, ParameterizedTypeReference<ApiResponse<T>> type, String opDesc) {
+        return singleFlight.execute(
+                HttpMethod.GET.name() + " " + url,
+                () -> callWithRetry(() -> restTemplate.exchange(url, HttpMethod.GET, null, type), opDesc));
+    }
+
+    /** Every employee, read from the cached list, which says when it was served stale. */
+    public Snapshot<List<Employee>> getAllEmployees() {
         log.info("Fetching all employees...");
+        return employeeCache.getAll(this::fetchAllEmployees);
+    }
+
+    /**
+     * Walks every employee on the mock server a page of {@code pageSize} at a time, requesting each page only when the
+     * previous one has been consumed. Unlike {@link #getAllEmployees()} this bypasses the cache.
+     */
+    public Iterator<Employee> iterateAllEmployees(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        return new EmployeePageIterator(cursor -> {
+            UriComponentsBuilder url = UriComponentsBuilder.fromHttpUrl(baseUrl).queryParam("limit", pageSize);
+            if (cursor != null) {
+                url.queryParam("cursor", cursor);
+            }
+            return sharedGet(url.build().encode().toUriString(), EMPLOYEE_LIST, "GET employee page")
+                    .getBody();
+        });
+    }
+
+    private List<Employee> fetchAllEmployees() {
+        log.debug("Loading employee snapshot from mock API");
         try {
-            ResponseEntity<Map> response =
-                    callWithRetry(() -> restTemplate.getForEntity(BASE_URL, Map.class), "GET all employees");
-            List<Map<String, Object>> rawList =
-                    (List<Map<String, Object>>) response.getBody().get("data");
-            return rawList.stream().map(this::mapToEmployee).collect(Collectors.toList());
+            if (pageSize == 0) {
+                return revalidateAllEmployees();
+            }
+            List<Employee> employees = new ArrayList<>();
+            iterateAllEmployees(pageSize).forEachRemaining(employees::add);
+            return employees;
         } catch (ResourceAccessException e) {
             log.error("Mock API not reachable: {}", e.getMessage());
-            throw new RuntimeException("Mock API not reachable. Did you start server:bootRun?");
+            throw new UpstreamUnreachableException("Mock API not reachable. Did you start server:bootRun?", e);
         }
     }
 
-    public List<Employee> searchEmployeesByName(String searchString) {
+    /**
+     * Fetches the full list with {@code If-None-Match} when an earlier response carried an {@code ETag}. A {@code 304}
+     * returns the very list held from that response, which {@link EmployeeCache} takes as unchanged, and costs only
+     * part of a slot on the rate limiter.
+     */
+    private List<Employee> revalidateAllEmployees() {
+        return singleFlight.execute("GET " + baseUrl, () -> {
+            Validated held = validated;
+            HttpEntity<Void> request = null;
+            if (held != null) {
+                HttpHeaders headers = new HttpHeaders();
+                headers.setIfNoneMatch(held.eTag());
+                request = new HttpEntity<>(headers);
+            }
+            HttpEntity<Void> conditional = request;
+            ResponseEntity<ApiResponse<List<Employee>>> response = callWithRetry(
+                    () -> restTemplate.exchange(baseUrl, HttpMethod.GET, conditional, EMPLOYEE_LIST),
+                    "GET all employees");
+            if (held != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                log.debug("Employee list not modified since {}", held.eTag());
+                rateLimiter.onNotModified();
+                meterRegistry.counter("employee.upstream.not-modified").increment();
+                return held.employees();
+            }
+            List<Employee> employees = response.getBody().data();
+            String eTag = response.getHeaders().getETag();
+            validated = eTag == null ? null : new Validated(eTag, employees);
+            return employees;
+        });
+    }
+
+    public Snapshot<List<Employee>> searchEmployeesByName(String searchString) {
         log.info("Searching employees with fragment: {}", searchString);
-        return getAllEmployees().stream()
-                .filter(e -> e.getEmployee_name() != null
-                        && e.getEmployee_name().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        return employeeCache.search(searchString, this::fetchAllEmployees);
     }
 
     public Employee getEmployeeById(String id) {
@@ -76,12 +307,15 @@ public class EmployeeService {
             throw new InvalidUUIDException("Invalid UUID format: " + id);
         }
 
+        Optional<Employee> cached = employeeCache.find(id);
+        if (cached.isPresent()) {
+            log.debug("Cache hit for employee id: {}", id);
+            return cached.get();
+        }
+
         try {
-            String url = BASE_URL + "/" + id;
-            ResponseEntity<Map> response =
-                    callWithRetry(() -> restTemplate.getForEntity(url, Map.class), "GET employee by id");
-            Map<String, Object> data = (Map<String, Object>) response.getBody().get("data");
-            return mapToEmployee(data);
+            String url = baseUrl + "/" + id;
+            return sharedGet(url, EMPLOYEE, "GET employee by id").getBody().data();
 
         } catch (HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
@@ -92,65 +326,174 @@ public class EmployeeService {
         }
     }
 
-    public int getHighestSalary() {
-        int max = getAllEmployees().stream()
-                .mapToInt(Employee::getEmployee_salary)
-                .max()
-                .orElse(0);
-        log.info("Highest salary = {}", max);
+    public Snapshot<Integer> getHighestSalary() {
+        Snapshot<Integer> max = employeeCache.highestSalary(this::fetchAllEmployees);
+        log.info("Highest salary = {}", max.value());
         return max;
     }
 
-    public List<String> getTop10HighestEarningNames() {
-        List<String> names = getAllEmployees().stream()
-                .sorted((a, b) -> Integer.compare(b.getEmployee_salary(), a.getEmployee_salary()))
-                .limit(10)
-                .map(Employee::getEmployee_name)
-                .collect(Collectors.toList());
+    public Snapshot<List<String>> getTop10HighestEarningNames() {
+        Snapshot<List<Employee>> top = employeeCache.topEarners(10, this::fetchAllEmployees);
+        List<String> names = top.value().stream().map(Employee::getEmployee_name).collect(Collectors.toList());
         log.info("Top 10 earners: {}", names);
-        return names;
+        return new Snapshot<>(names, top.staleness());
     }
 
     public Employee createEmployee(EmployeeInput input) {
         log.info("Creating employee: name={}, title={}", input.getName(), input.getTitle());
 
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("name", input.getName());
-        requestBody.put("salary", input.getSalary());
-        requestBody.put("age", input.getAge());
-        requestBody.put("title", input.getTitle());
-
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+        HttpEntity<EmployeeInput> request = new HttpEntity<>(input, headers);
 
-        ResponseEntity<Map> response =
-                callWithRetry(() -> restTemplate.postForEntity(BASE_URL, request, Map.class), "POST create employee");
-        Map<String, Object> data = (Map<String, Object>) response.getBody().get("data");
-        return mapToEmployee(data);
+        ResponseEntity<ApiResponse<Employee>> response = callWithRetry(
+                () -> restTemplate.exchange(baseUrl, HttpMethod.POST, request, EMPLOYEE), "POST create employee");
+        Employee created = response.getBody().data();
+        employeeCache.put(created);
+        return created;
     }
 
+    /** Deletes exactly the employee with this id in a single call, which also returns its name. */
     public String deleteEmployee(String id) {
         log.info("Deleting employee by id: {}", id);
 
-        Employee employee = getEmployeeById(id); // May throw InvalidUUIDException or EmployeeNotFoundException
-        String name = employee.getEmployee_name();
+        if (!isValidUUID(id)) {
+            log.error("Invalid UUID format: {}", id);
+            throw new InvalidUUIDException("Invalid UUID format: " + id);
+        }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        try {
+            String url = baseUrl + "/" + id;
+            Employee deleted = callWithRetry(
+                            () -> restTemplate.exchange(url, HttpMethod.DELETE, null, EMPLOYEE), "DELETE employee")
+                    .getBody()
+                    .data();
+            log.info("Deleted employee: {}", deleted.getEmployee_name());
+            employeeCache.remove(id);
+            return deleted.getEmployee_name();
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                log.warn("Employee not found: {}", id);
+                throw new EmployeeNotFoundException("Employee not found: " + id);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates every employee, keeping at most {@code employee.bulk.concurrency} creates in flight. Each is paced and
+     * retried like a single create, and reported in its own item, so one failure does not abort the rest.
+     */
+    public BulkResult<Employee> createEmployees(List<EmployeeInput> inputs) {
+        log.info("Creating {} employees in bulk", inputs.size());
+        BulkRequests.checkSize(inputs);
+        return fanOut(inputs, this::createEmployee);
+    }
+
+    /**
+     * Looks every id up, answering from the cached snapshot where possible. When the full list comes in a single
+     * response, a missing or expired snapshot is loaded once for all the ids instead of fetching them one by one; only
+     * ids it does not hold are fetched individually, at most {@code employee.bulk.concurrency} at a time.
+     */
+    public BulkResult<Employee> getEmployeesByIds(List<String> ids) {
+        log.info("Fetching {} employees by id in bulk", ids.size());
+        BulkRequests.checkSize(ids);
+        long misses = ids.stream()
+                .filter(id -> id != null && isValidUUID(id) && employeeCache.peek(id).isEmpty())
+                .limit(2)
+                .count();
+        if (pageSize == 0 && misses > 1) {
+            try {
+                getAllEmployees();
+            } catch (RuntimeException e) {
+                log.warn("Could not load the employee snapshot, fetching ids one by one: {}", e.getMessage());
+            }
+        }
+        return fanOut(ids, this::getEmployeeById);
+    }
 
-        Map<String, String> requestBody = Map.of("name", name);
-        HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
+    /**
+     * Runs {@code call} for every input on {@code bulkConcurrency} virtual threads, each taking the next input as soon
+     * as it is done with the last, so a slow call holds up only its own worker. An input whose turn on the rate limiter
+     * is further off than a single request would wait goes back on the queue until then, and its worker moves on to
+     * inputs that are due.
+     */
+    private <I> BulkResult<Employee> fanOut(List<I> inputs, Function<I, Employee> call) {
+        AtomicReferenceArray<BulkResult.Item<Employee>> items = new AtomicReferenceArray<>(inputs.size());
+        DelayQueue<BulkAttempt> queue = new DelayQueue<>();
+        long now = System.nanoTime();
+        for (int i = 0; i < inputs.size(); i++) {
+            queue.add(new BulkAttempt(i, 1, now));
+        }
+        int workerCount = Math.min(bulkConcurrency, inputs.size());
+        AtomicInteger pending = new AtomicInteger(inputs.size());
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < workerCount; worker++) {
+                workers.execute(() -> {
+                    try {
+                        for (BulkAttempt attempt = queue.take(); !attempt.isDone(); attempt = queue.take()) {
+                            BulkResult.Item<Employee> item =
+                                    bulkItem(attempt, inputs.get(attempt.index()), call, queue);
+                            if (item == null) {
+                                continue;
+                            }
+                            items.set(attempt.index(), item);
+                            if (pending.decrementAndGet() == 0) {
+                                for (int stop = 0; stop < workerCount; stop++) {
+                                    queue.add(BulkAttempt.done());
+                                }
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        }
+        List<BulkResult.Item<Employee>> results = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            BulkResult.Item<Employee> item = items.get(i);
+            // Only a request interrupted while waiting for its workers leaves an item unset.
+            results.add(item != null
+                    ? item
+                    : BulkResult.Item.failure(i, HttpStatus.SERVICE_UNAVAILABLE.value(), BULK_INTERRUPTED));
+        }
+        BulkResult<Employee> result = BulkResult.of(results);
+        log.info("Bulk request done: {} succeeded, {} failed", result.succeeded(), result.failed());
+        return result;
+    }
 
-        ResponseEntity<Map> response = callWithRetry(
-                () -> restTemplate.exchange(BASE_URL, HttpMethod.DELETE, request, Map.class), "DELETE employee");
-        Map<String, Object> responseBody = response.getBody();
-        if (Boolean.TRUE.equals(responseBody.get("data"))) {
-            log.info("Deleted employee: {}", name);
-            return name;
-        } else {
-            throw new RuntimeException("Delete failed for employee: " + name);
+    /**
+     * A single request fails fast rather than wait long for its turn on the rate limiter; a bulk item is put back on
+     * {@code queue} until that turn instead, as its caller expects the whole request to take a while. Any other
+     * backoff, such as after a 429, is left to {@link #retry}.
+     *
+     * @return the input's item, or null if it was put back on the queue
+     */
+    private <I> BulkResult.Item<Employee> bulkItem(
+            BulkAttempt attempt, I input, Function<I, Employee> call, DelayQueue<BulkAttempt> queue) {
+        int index = attempt.index();
+        if (input == null) {
+            return BulkResult.Item.failure(index, HttpStatus.BAD_REQUEST.value(), "Missing item");
         }
+        try {
+            return BulkResult.Item.success(index, call.apply(input));
+        } catch (RateLimitWaitExceededException e) {
+            if (attempt.number() < BULK_RATE_LIMIT_ATTEMPTS) {
+                long dueNanos = System.nanoTime() + e.getRetryAfter().toNanos();
+                queue.add(new BulkAttempt(index, attempt.number() + 1, dueNanos));
+                return null;
+            }
+            return BulkResult.Item.failure(index, bulkStatus(e), e.getMessage());
+        } catch (RuntimeException e) {
+            log.debug("Bulk item {} failed: {}", index, e.getMessage());
+            return BulkResult.Item.failure(index, bulkStatus(e), e.getMessage());
+        }
+    }
+
+    /** The status a single-item request failing with {@code e} answers, passing on the mock server's own. */
+    private static int bulkStatus(RuntimeException e) {
+        return e instanceof HttpStatusCodeException http ? http.getStatusCode().value() : BulkRequests.itemStatus(e);
     }
 
     private boolean isValidUUID(String id) {
@@ -162,14 +505,30 @@ public class EmployeeService {
         }
     }
 
-    private Employee mapToEmployee(Map<String, Object> map) {
-        Employee e = new Employee();
-        e.setId((String) map.get("id"));
-        e.setEmployee_name((String) map.get("employee_name"));
-        e.setEmployee_salary(((Number) map.get("employee_salary")).intValue());
-        e.setEmployee_age(((Number) map.get("employee_age")).intValue());
-        e.setEmployee_title((String) map.get("employee_title"));
-        e.setEmployee_email((String) map.get("employee_email"));
-        return e;
+    /** The full list as of {@code eTag}. */
+    private record Validated(String eTag, List<Employee> employees) {}
+
+    /** The {@code number}th attempt at the bulk input at {@code index}, due at {@code dueNanos} on the nano clock. */
+    private record BulkAttempt(int index, int number, long dueNanos) implements Delayed {
+
+        /** Tells a worker that every input is done. */
+        static BulkAttempt done() {
+            return new BulkAttempt(-1, 0, System.nanoTime());
+        }
+
+        boolean isDone() {
+            return index < 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            // Nano clock readings are only comparable through their difference.
+            return Long.signum(dueNanos - ((BulkAttempt) other).dueNanos);
+        }
     }
 }
@@ -0,0 +1,366 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.SalaryRanking;
+import com.reliaquest.api.cache.TrigramIndex;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidUUIDException;
+import com.reliaquest.api.exception.RateLimitWaitExceededException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}, serving the same endpoints with the reactive profile.
+ *
+ * <p>The employee list is kept as an immutable snapshot for {@code employee.cache.ttl}. Concurrent readers share a
+ * single load, and a local create or delete makes the next reader load a fresh snapshot, so the mock server stays the
+ * source of truth. Calls to the mock server take their turn on the shared {@link AdaptiveRateLimiter} and are retried
+ * after a 429, waiting on timers rather than on threads.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveEmployeeService {
+
+    private static final int ATTEMPTS = 3;
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final int pageSize;
+    private final int bulkConcurrency;
+
+    private final AtomicLong writes = new AtomicLong();
+    private final Mono<Snapshot> snapshot;
+    private volatile Snapshot latest;
+
+    /**
+     * @param ttl how long a loaded snapshot answers reads
+     * @param pageSize employees requested per page when loading the full list, or 0 to load it in a single response
+     * @param bulkConcurrency calls to the mock server a single bulk request keeps in flight at once
+     */
+    public ReactiveEmployeeService(
+            WebClient webClient,
+            AdaptiveRateLimiter rateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${employee.cache.ttl:30s}") Duration ttl,
+            @Value("${employee.upstream.page-size:0}") int pageSize,
+            @Value("${employee.bulk.concurrency:" + EmployeeService.DEFAULT_BULK_CONCURRENCY + "}")
+                    int bulkConcurrency) {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("employee.upstream.page-size must not be negative");
+        }
+        if (bulkConcurrency < 1) {
+            throw new IllegalArgumentException("employee.bulk.concurrency must be positive");
+        }
+        this.webClient = webClient;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.pageSize = pageSize;
+        this.bulkConcurrency = bulkConcurrency;
+        this.snapshot = Mono.defer(this::loadSnapshot).cacheInvalidateIf(loaded -> !isCurrent(loaded));
+    }
+
+    /** Every employee, emitted as fast as the caller consumes them. */
+    public Flux<Employee> getAllEmployees() {
+        log.info("Fetching all employees...");
+        return snapshot.flatMapIterable(Snapshot::employees);
+    }
+
+    public Flux<Employee> searchEmployeesByName(String searchString) {
+        log.info("Searching employees with fragment: {}", searchString);
+        return snapshot.flatMapIterable(loaded -> loaded.names().search(searchString));
+    }
+
+    /** Answered from a current snapshot when there is one, without ever loading it; from the mock server otherwise. */
+    public Mono<Employee> getEmployeeById(String id) {
+        log.info("Fetching employee by id: {}", id);
+        if (!isValidUUID(id)) {
+            log.error("Invalid UUID format: {}", id);
+            return Mono.error(new InvalidUUIDException("Invalid UUID format: " + id));
+        }
+
+        Snapshot current = latest;
+        if (current != null && isCurrent(current) && current.byId().containsKey(id)) {
+            return Mono.just(current.byId().get(id));
+        }
+        return upstream("GET employee by id", () -> webClient
+                        .get()
+                        .uri("/{id}", id)
+                        .retrieve()
+                        .bodyToMono(EMPLOYEE))
+                .map(ApiResponse::data)
+                .onErrorMap(WebClientResponseException.NotFound.class, e -> {
+                    log.warn("Employee not found: {}", id);
+                    return new EmployeeNotFoundException("Employee not found: " + id);
+                });
+    }
+
+    public Mono<Integer> getHighestSalary() {
+        return snapshot.map(loaded -> loaded.salaries().highestSalary());
+    }
+
+    public Mono<List<String>> getTop10HighestEarningNames() {
+        return snapshot.map(loaded -> loaded.salaries().top(10).stream()
+                .map(Employee::getEmployee_name)
+                .toList());
+    }
+
+    public Mono<Employee> createEmployee(EmployeeInput input) {
+        log.info("Creating employee: name={}, title={}", input.getName(), input.getTitle());
+        return upstream("POST create employee", () -> webClient
+                        .post()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(input)
+                        .retrieve()
+                        .bodyToMono(EMPLOYEE))
+                .map(ApiResponse::data)
+                .doOnNext(created -> writes.incrementAndGet());
+    }
+
+    public Mono<String> deleteEmployee(String id) {
+        log.info("Deleting employee by id: {}", id);
+        if (!isValidUUID(id)) {
+            log.error("Invalid UUID format: {}", id);
+            return Mono.error(new InvalidUUIDException("Invalid UUID format: " + id));
+        }
+
+        return upstream("DELETE employee", () -> webClient
+                        .delete()
+                        .uri("/{id}", id)
+                        .retrieve()
+                        .bodyToMono(EMPLOYEE))
+                .map(response -> {
+                    String name = response.data().getEmployee_name();
+                    log.info("Deleted employee: {}", name);
+                    writes.incrementAndGet();
+                    return name;
+                })
+                .onErrorMap(WebClientResponseException.NotFound.class, e -> {
+                    log.warn("Employee not found: {}", id);
+                    return new EmployeeNotFoundException("Employee not found: " + id);
+                });
+    }
+
+    /** Creates every employee, keeping at most {@code employee.bulk.concurrency} creates in flight. */
+    public Mono<BulkResult<Employee>> createEmployees(List<EmployeeInput> inputs) {
+        log.info("Creating {} employees in bulk", inputs.size());
+        return Mono.fromRunnable(() -> BulkRequests.checkSize(inputs))
+                .then(fanOut(inputs, this::createEmployee));
+    }
+
+    /**
+     * Looks every id up, loading the snapshot once for all of them when the full list comes in a single response; only
+     * ids it does not hold are fetched individually.
+     */
+    public Mono<BulkResult<Employee>> getEmployeesByIds(List<String> ids) {
+        log.info("Fetching {} employees by id in bulk", ids.size());
+        Mono<Snapshot> loaded = pageSize == 0 && ids.size() > 1
+                ? snapshot.onErrorResume(e -> {
+                    log.warn("Could not load the employee snapshot, fetching ids one by one: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                : Mono.empty();
+        return Mono.fromRunnable(() -> BulkRequests.checkSize(ids))
+                .then(loaded)
+                .then(fanOut(ids, this::getEmployeeById));
+    }
+
+    /** Results are collected in input order, whichever order the calls complete in. */
+    private <I> Mono<BulkResult<Employee>> fanOut(List<I> inputs, Function<I, Mono<Employee>> call) {
+        return Flux.range(0, inputs.size())
+                .flatMapSequential(index -> bulkItem(index, inputs.get(index), call), bulkConcurrency)
+                .collectList()
+                .map(BulkResult::of)
+                .doOnNext(result -> log.info(
+                        "Bulk request done: {} succeeded, {} failed", result.succeeded(), result.failed()));
+    }
+
+    /**
+     * Like a blocking bulk item, this one waits out a turn on the rate limiter that is too far off for a single
+     * request, on a timer, and tries again; any other backoff is left to the call's own retries.
+     */
+    private <I> Mono<BulkResult.Item<Employee>> bulkItem(int index, I input, Function<I, Mono<Employee>> call) {
+        if (input == null) {
+            return Mono.just(BulkResult.Item.failure(index, HttpStatus.BAD_REQUEST.value(), "Missing item"));
+        }
+        return Mono.defer(() -> call.apply(input))
+                .map(employee -> BulkResult.Item.success(index, employee))
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    if (signal.totalRetries() < ATTEMPTS - 1
+                            && signal.failure() instanceof RateLimitWaitExceededException e) {
+                        return Mono.delay(e.getRetryAfter());
+                    }
+                    return Mono.error(signal.failure());
+                })))
+                .onErrorResume(e -> {
+                    log.debug("Bulk item {} failed: {}", index, e.getMessage());
+                    return Mono.just(BulkResult.Item.failure(index, bulkStatus(e), e.getMessage()));
+                });
+    }
+
+    /** The status a single-item request failing with {@code e} answers, passing on the mock server's own. */
+    private static int bulkStatus(Throwable e) {
+        return e instanceof WebClientResponseException http ? http.getStatusCode().value() : BulkRequests.itemStatus(e);
+    }
+
+    private Mono<Snapshot> loadSnapshot() {
+        log.debug("Loading employee snapshot from mock API");
+        long startWrites = writes.get();
+        long startedAt = System.nanoTime();
+        return fetchAllEmployees()
+                .collectList()
+                .map(employees -> new Snapshot(employees, startWrites, startedAt))
+                .doOnNext(loaded -> latest = loaded)
+                .onErrorMap(WebClientRequestException.class, e -> {
+                    log.error("Mock API not reachable: {}", e.getMessage());
+                    return new RuntimeException("Mock API not reachable. Did you start server:bootRun?");
+                });
+    }
+
+    /** Requests each page only once the previous one has been consumed. */
+    private Flux<Employee> fetchAllEmployees() {
+        if (pageSize == 0) {
+            return upstream("GET all employees", () -> webClient
+                            .get()
+                            .retrieve()
+                            .bodyToMono(EMPLOYEE_LIST))
+                    .flatMapIterable(ApiResponse::data);
+        }
+        return fetchPage(null)
+                .expand(page -> page.nextCursor() == null ? Mono.empty() : fetchPage(page.nextCursor()))
+                .flatMapIterable(ApiResponse::data);
+    }
+
+    private Mono<ApiResponse<List<Employee>>> fetchPage(String cursor) {
+        return upstream("GET employee page", () -> webClient
+                .get()
+                .uri(url -> {
+                    url.queryParam("limit", pageSize);
+                    if (cursor != null) {
+                        url.queryParam("cursor", cursor);
+                    }
+                    return url.build();
+                })
+                .retrieve()
+                .bodyToMono(EMPLOYEE_LIST));
+    }
+
+    /**
+     * Every attempt reserves its turn on the {@link AdaptiveRateLimiter} and waits for it on a timer; a 429 slows the
+     * limiter down and the call is retried the same way, recorded in the same metrics as {@link EmployeeService}'s.
+     */
+    private <T> Mono<T> upstream(String opDesc, Supplier<Mono<T>> call) {
+        AtomicInteger attempt = new AtomicInteger();
+        return Mono.defer(() -> {
+                    if (attempt.incrementAndGet() > 1) {
+                        meterRegistry
+                                .counter("employee.upstream.retries", "operation", opDesc)
+                                .increment();
+                    }
+                    Duration wait = rateLimiter.reserve(opDesc);
+                    Mono<T> timed = timed(call, opDesc);
+                    return wait.isZero() ? timed : Mono.delay(wait).then(timed);
+                })
+                .doOnNext(ignored -> rateLimiter.onSuccess())
+                .doOnError(WebClientResponseException.TooManyRequests.class, e -> {
+                    rateLimiter.onThrottled(AdaptiveRateLimiter.parseRetryAfter(
+                            e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+                    log.warn("[{}] hit 429 (attempt {}/{})", opDesc, attempt.get(), ATTEMPTS);
+                })
+                .retryWhen(Retry.max(ATTEMPTS - 1)
+                        .filter(WebClientResponseException.TooManyRequests.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> {
+                            meterRegistry
+                                    .counter("employee.upstream.retries.exhausted", "operation", opDesc)
+                                    .increment();
+                            return new UpstreamRateLimitedException(
+                                    "Mock API rate limit still active after " + ATTEMPTS + " attempts to " + opDesc,
+                                    rateLimiter.estimatedWait());
+                        }));
+    }
+
+    private <T> Mono<T> timed(Supplier<Mono<T>> call, String opDesc) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call.get()
+                    .doOnSuccess(ignored -> sample.stop(upstreamTimer(opDesc, "success")))
+                    .doOnError(e -> sample.stop(upstreamTimer(
+                            opDesc, e instanceof WebClientResponseException.TooManyRequests ? "throttled" : "error")));
+        });
+    }
+
+    private Timer upstreamTimer(String opDesc, String outcome) {
+        return EmployeeService.upstreamTimer(meterRegistry, opDesc, outcome);
+    }
+
+    private boolean isCurrent(Snapshot loaded) {
+        return loaded.writes() == writes.get() && System.nanoTime() - loaded.loadedAt() < ttl.toNanos();
+    }
+
+    private boolean isValidUUID(String id) {
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Employees as loaded at {@code loadedAt} ({@link System#nanoTime()}), after {@code writes} local changes. Never
+     * modified once built, so it is read without locking.
+     */
+    private record Snapshot(
+            List<Employee> employees,
+            Map<String, Employee> byId,
+            TrigramIndex names,
+            SalaryRanking salaries,
+            long writes,
+            long loadedAt) {
+
+        Snapshot(List<Employee> employees, long writes, long loadedAt) {
+            this(List.copyOf(employees), new HashMap<>(), new TrigramIndex(), new SalaryRanking(), writes, loadedAt);
+            for (Employee employee : this.employees) {
+                byId.put(employee.getId(), employee);
+                names.add(employee);
+                salaries.add(employee);
+            }
+        }
+    }
+}
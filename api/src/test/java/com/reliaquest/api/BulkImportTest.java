@@ -0,0 +1,105 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.support.MockEmployeeApiStub;
+import com.reliaquest.api.support.MockEmployeeApiStub.Latency;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end throughput of importing {@value #EMPLOYEES} employees through {@code POST /bulk}, at growing values of
+ * {@code employee.bulk.concurrency}, against one {@code POST /} per employee from a single client. The whole
+ * application runs in front of a {@link MockEmployeeApiStub} that answers after a fixed 5ms, with the rate limit raised
+ * out of the way so that the fan-out itself is measured. Run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class BulkImportTest {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final int ONE_BY_ONE = 1_000;
+    private static final int[] CONCURRENCY = {1, 4, 16, 64};
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void importThroughput() throws Exception {
+        StringBuilder table = new StringBuilder(
+                String.format(Locale.ROOT, "%-12s %11s %10s %12s%n", "import", "employees", "seconds", "employees/s"));
+        try (MockEmployeeApiStub stub = MockEmployeeApiStub.start()) {
+            stub.latency(Latency.fixed(Duration.ofMillis(5)));
+            for (int concurrency : CONCURRENCY) {
+                try (ConfigurableApplicationContext api = start(stub, concurrency)) {
+                    long started = System.nanoTime();
+                    JsonNode result = post(port(api), "/bulk", inputs(EMPLOYEES));
+                    double seconds = (System.nanoTime() - started) / 1e9;
+                    assertEquals(EMPLOYEES, result.path("succeeded").asInt(), "Not every employee was imported");
+                    table.append(row("bulk x" + concurrency, EMPLOYEES, seconds));
+                }
+            }
+            try (ConfigurableApplicationContext api = start(stub, 1)) {
+                long started = System.nanoTime();
+                for (EmployeeInput input : inputs(ONE_BY_ONE)) {
+                    post(port(api), "/", input);
+                }
+                table.append(row("one by one", ONE_BY_ONE, (System.nanoTime() - started) / 1e9));
+            }
+        }
+        System.out.print(table);
+    }
+
+    private static ConfigurableApplicationContext start(MockEmployeeApiStub stub, int concurrency) {
+        return new SpringApplicationBuilder(ApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "employee.upstream.base-url=" + stub.baseUrl(),
+                        "employee.bulk.concurrency=" + concurrency,
+                        "employee.upstream.rate-limit.initial-rate=100000",
+                        "employee.upstream.rate-limit.max-rate=100000",
+                        "employee.upstream.rate-limit.burst=1000",
+                        "logging.level.com.reliaquest=WARN")
+                .run();
+    }
+
+    private static int port(ConfigurableApplicationContext api) {
+        return ((WebServerApplicationContext) api).getWebServer().getPort();
+    }
+
+    private JsonNode post(int port, String path, Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode(), () -> "POST " + path + " answered " + response.statusCode());
+        return objectMapper.readTree(response.body());
+    }
+
+    private static List<EmployeeInput> inputs(int count) {
+        List<EmployeeInput> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            inputs.add(new EmployeeInput("Imported " + i, 50_000 + i, 30, "Importer"));
+        }
+        return inputs;
+    }
+
+    private static String row(String mode, int employees, double seconds) {
+        return String.format(Locale.ROOT, "%-12s %11d %10.2f %12.1f%n", mode, employees, seconds, employees / seconds);
+    }
+}
@@ -0,0 +1,183 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.support.LoadDriver;
+import com.reliaquest.api.support.LoadDriver.Endpoint;
+import com.reliaquest.api.support.LoadDriver.EndpointStats;
+import com.reliaquest.api.support.MockEmployeeApiStub;
+import com.reliaquest.api.support.MockEmployeeApiStub.Latency;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Concurrency scaling of the api on each of its execution models: Spring MVC on Tomcat's platform threads, Spring MVC
+ * on virtual threads, and the reactive profile on Netty. In each mode the whole application runs with Tomcat capped at
+ * {@value #TOMCAT_THREADS} threads in front of a {@link MockEmployeeApiStub} that answers after a fixed 50ms, and
+ * growing numbers of clients fetch employees by id with a cold cache, so every request waits on a call to the stub. On
+ * platform threads throughput levels off once every Tomcat thread is blocked; the other two keep growing with the
+ * clients. Run with {@code ./gradlew api:benchmark}.
+ *
+ * <p>Prints throughput and p50/p99 latency per mode and client count, with the peak number of live platform threads
+ * and the heap retained per client halfway through each run (measured after a full GC, against the heap retained
+ * while idle, and including the load driver's own share, which is the same in every mode).
+ *
+ * <p>JFR reports every virtual thread that blocks for 20ms or more while pinned to its carrier thread, which would
+ * quietly turn it back into a platform thread; none may occur.
+ */
+@Tag("benchmark")
+class ConcurrencyScalingTest {
+
+    private static final int TOMCAT_THREADS = 50;
+    private static final int[] CLIENTS = {100, 1000, 4000};
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration DURATION = Duration.ofSeconds(10);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void throughputAndMemoryPerClient() throws Exception {
+        AtomicLong pinned = new AtomicLong();
+        try (MockEmployeeApiStub stub = MockEmployeeApiStub.start().seed(10_000, 7);
+                RecordingStream pinning = new RecordingStream()) {
+            stub.latency(Latency.fixed(Duration.ofMillis(50)));
+            List<Employee> employees = stub.employees();
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(20));
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinned.incrementAndGet());
+            pinning.startAsync();
+
+            StringBuilder table = new StringBuilder(String.format(
+                    Locale.ROOT,
+                    "%-9s %8s %9s %8s %8s %8s %10s%n",
+                    "mode",
+                    "clients",
+                    "req/s",
+                    "p50 ms",
+                    "p99 ms",
+                    "threads",
+                    "KB/client"));
+            for (Mode mode : Mode.values()) {
+                try (ConfigurableApplicationContext api = start(stub, mode)) {
+                    int port = ((WebServerApplicationContext) api).getWebServer().getPort();
+                    long idleHeap = heapAfterGc();
+                    for (int clients : CLIENTS) {
+                        Sampler sampler = Sampler.start(WARMUP.plus(DURATION.dividedBy(2)));
+                        EndpointStats stats = new LoadDriver(clients, WARMUP, DURATION)
+                                .run(List.of(new Endpoint("getById", 1, () -> get(port, random(employees)))))
+                                .endpoints()
+                                .get("getById");
+                        sampler.stop();
+                        assertTrue(stats.requests() > 0, "Nothing was measured with " + clients + " clients");
+                        table.append(String.format(
+                                Locale.ROOT,
+                                "%-9s %8d %9.1f %8.2f %8.2f %8d %10.1f%n",
+                                mode.name().toLowerCase(Locale.ROOT),
+                                clients,
+                                stats.throughput(),
+                                stats.p50() / 1e6,
+                                stats.p99() / 1e6,
+                                sampler.peakThreads(),
+                                Math.max(0, sampler.heapUnderLoad() - idleHeap) / 1024.0 / clients));
+                    }
+                }
+            }
+            System.out.print(table);
+        }
+        assertEquals(0, pinned.get(), "Virtual threads were pinned while blocking");
+    }
+
+    private static ConfigurableApplicationContext start(MockEmployeeApiStub stub, Mode mode) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ApiApplication.class);
+        if (mode == Mode.REACTIVE) {
+            builder.profiles("reactive");
+        }
+        return builder.properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "spring.threads.virtual.enabled=" + (mode == Mode.VIRTUAL),
+                        "employee.upstream.base-url=" + stub.baseUrl(),
+                        "employee.upstream.max-concurrency=10000",
+                        "employee.upstream.rate-limit.initial-rate=100000",
+                        "employee.upstream.rate-limit.max-rate=100000",
+                        "employee.upstream.rate-limit.burst=1000",
+                        "logging.level.com.reliaquest=WARN")
+                .run();
+    }
+
+    private int get(int port, Employee employee) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/" + employee.getId()))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static Employee random(List<Employee> employees) {
+        return employees.get(ThreadLocalRandom.current().nextInt(employees.size()));
+    }
+
+    private static long heapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private enum Mode {
+        PLATFORM,
+        VIRTUAL,
+        REACTIVE
+    }
+
+    /** Tracks the peak number of live platform threads and, once, the heap retained while the load is running. */
+    private static final class Sampler {
+
+        private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicInteger peakThreads = new AtomicInteger();
+        private final AtomicLong heapUnderLoad = new AtomicLong();
+
+        static Sampler start(Duration measureHeapAfter) {
+            Sampler sampler = new Sampler();
+            sampler.executor.scheduleAtFixedRate(
+                    () -> sampler.peakThreads.accumulateAndGet(
+                            ManagementFactory.getThreadMXBean().getThreadCount(), Math::max),
+                    0,
+                    100,
+                    TimeUnit.MILLISECONDS);
+            sampler.executor.schedule(
+                    () -> sampler.heapUnderLoad.set(heapAfterGc()),
+                    measureHeapAfter.toMillis(),
+                    TimeUnit.MILLISECONDS);
+            return sampler;
+        }
+
+        void stop() {
+            executor.shutdownNow();
+        }
+
+        int peakThreads() {
+            return peakThreads.get();
+        }
+
+        long heapUnderLoad() {
+            return heapUnderLoad.get();
+        }
+    }
+}
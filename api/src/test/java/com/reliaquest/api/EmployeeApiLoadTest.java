@@ -0,0 +1,136 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.support.LoadDriver;
+import com.reliaquest.api.support.LoadDriver.Endpoint;
+import com.reliaquest.api.support.MockEmployeeApiStub;
+import com.reliaquest.api.support.MockEmployeeApiStub.Latency;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * End-to-end throughput of the api: the whole application on a random port, in front of a {@link MockEmployeeApiStub}
+ * with log-normal latency, periodic 429 bursts and 1% of 500s, driven by a weighted mix of every endpoint. Prints
+ * throughput and p50/p99/p999 latency per endpoint. Run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "employee.cache.ttl=5s",
+            "employee.cache.refresh-ahead=2s",
+            "employee.upstream.rate-limit.initial-rate=200",
+            "employee.upstream.rate-limit.max-rate=1000",
+            "employee.upstream.rate-limit.burst=50",
+            "employee.upstream.rate-limit.max-wait=1s",
+            "logging.level.com.reliaquest=WARN"
+        })
+class EmployeeApiLoadTest {
+
+    private static final MockEmployeeApiStub STUB = MockEmployeeApiStub.start().seed(10_000, 42);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstream(DynamicPropertyRegistry registry) {
+        registry.add("employee.upstream.base-url", STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    void throughputAndLatencyPerEndpoint() throws Exception {
+        STUB.latency(Latency.logNormal(Duration.ofMillis(5), 0.5))
+                .throttle(200, 5, Duration.ZERO)
+                .serverErrorRate(0.01);
+        List<Employee> employees = STUB.employees();
+
+        LoadDriver.Report report = new LoadDriver(16, Duration.ofSeconds(5), Duration.ofSeconds(20))
+                .run(List.of(
+                        new Endpoint("getAll", 5, () -> get("/")),
+                        new Endpoint("getById", 30, () -> get("/" + random(employees).getId())),
+                        new Endpoint("search", 20, () -> get("/search/" + fragment(random(employees)))),
+                        new Endpoint("highestSalary", 10, () -> get("/highestSalary")),
+                        new Endpoint("topTen", 10, () -> get("/topTenHighestEarningEmployeeNames")),
+                        new Endpoint("create", 5, this::create),
+                        new Endpoint("delete", 5, this::deleteCreated)));
+
+        System.out.print(report.format());
+        System.out.printf(
+                "stub: %d requests, %d throttled, %d failed%n",
+                STUB.requests(), STUB.throttledRequests(), STUB.failedRequests());
+        report.endpoints().forEach((name, stats) -> assertTrue(stats.requests() > 0, name + " was never measured"));
+    }
+
+    private int get(String path) throws Exception {
+        return client.send(request(path).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private int create() throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                "name", "Load Test " + created.incrementAndGet(), "salary", 50_000, "age", 30, "title", "Tester"));
+        HttpResponse<byte[]> response = client.send(
+                request("/")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() == 200) {
+            createdIds.add(objectMapper.readTree(response.body()).path("id").asText());
+        }
+        return response.statusCode();
+    }
+
+    /** Deletes an employee this test created, so the seeded dataset keeps its size. */
+    private int deleteCreated() throws Exception {
+        String id = createdIds.poll();
+        if (id == null) {
+            return Endpoint.SKIPPED;
+        }
+        return client.send(request("/" + id).DELETE().build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10));
+    }
+
+    private static Employee random(List<Employee> employees) {
+        return employees.get(ThreadLocalRandom.current().nextInt(employees.size()));
+    }
+
+    /** The random middle word of a seeded name, such as {@code "k3x9q"}: a selective search. */
+    private static String fragment(Employee employee) {
+        return employee.getEmployee_name().split(" ")[1];
+    }
+}
@@ -0,0 +1,303 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamUnreachableException;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCacheTest {
+
+    private MutableClock clock;
+    private EmployeeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new EmployeeCache(Duration.ofSeconds(30), Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void getAll_shouldLoadOnceWithinTtl() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<Employee>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(employee("1", "Alice"));
+        };
+
+        cache.getAll(loader);
+        clock.advance(Duration.ofSeconds(19));
+        List<Employee> employees = cache.getAll(loader).value();
+
+        assertEquals(1, loads.get());
+        assertEquals(1, employees.size());
+    }
+
+    @Test
+    void getAll_shouldReloadSynchronouslyOnceExpired() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<Employee>> loader = () -> List.of(employee(String.valueOf(loads.incrementAndGet()), "Alice"));
+
+        cache.getAll(loader);
+        clock.advance(Duration.ofSeconds(30));
+        List<Employee> employees = cache.getAll(loader).value();
+
+        assertEquals(2, loads.get());
+        assertEquals("2", employees.get(0).getId());
+    }
+
+    @Test
+    void getAll_shouldRefreshAheadInBackgroundAndServeCurrentSnapshot() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<Employee>> loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                return List.of(employee("1", "Alice"));
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(employee("2", "Bob"));
+        };
+
+        cache.getAll(loader);
+        clock.advance(Duration.ofSeconds(25));
+        List<Employee> served = cache.getAll(loader).value();
+
+        assertEquals("1", served.get(0).getId());
+        release.countDown();
+        awaitVersion(2);
+        assertEquals("2", cache.getAll(loader).value().get(0).getId());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void putAndRemove_shouldApplyImmediately() {
+        cache.getAll(() -> List.of(employee("1", "Alice")));
+
+        cache.put(employee("2", "Bob"));
+        assertEquals(2, cache.getAll(List::of).value().size());
+        assertTrue(cache.find("2").isPresent());
+
+        cache.remove("1");
+        assertEquals(List.of("2"), cache.getAll(List::of).value().stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void search_shouldReflectLocalChanges() {
+        cache.getAll(() -> List.of(employee("1", "Alice Smith"), employee("2", "Bob Johnson")));
+
+        cache.put(employee("3", "Carol Smithers"));
+        cache.remove("1");
+
+        assertEquals(
+                List.of("3"),
+                cache.search("smith", List::of).value().stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void reload_shouldKeepLocalChangesMadeWhileInFlight() {
+        cache.getAll(() -> List.of(employee("1", "Alice"), employee("2", "Bob")));
+        clock.advance(Duration.ofSeconds(30));
+
+        // The upstream answers with data captured before the local create and delete below.
+        List<Employee> employees = cache.getAll(() -> {
+                    cache.put(employee("3", "Carol"));
+                    cache.remove("2");
+                    return List.of(employee("1", "Alice"), employee("2", "Bob"));
+                })
+                .value();
+
+        assertEquals(List.of("1", "3"), employees.stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void find_shouldMissWhenSnapshotExpired() {
+        cache.getAll(() -> List.of(employee("1", "Alice")));
+        assertTrue(cache.find("1").isPresent());
+
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(cache.find("1").isEmpty());
+    }
+
+    @Test
+    void peek_shouldLookUpLikeFindWithoutCountingHitsOrMisses() {
+        cache.getAll(() -> List.of(employee("1", "Alice")));
+        long hits = cache.hits();
+        long misses = cache.misses();
+
+        assertTrue(cache.peek("1").isPresent());
+        assertTrue(cache.peek("2").isEmpty());
+
+        assertEquals(hits, cache.hits());
+        assertEquals(misses, cache.misses());
+        assertTrue(cache.find("1").isPresent());
+        assertEquals(hits + 1, cache.hits());
+    }
+
+    @Test
+    void mirror_shouldServeFeedChangesWithoutExpiringOrLoading() {
+        cache.mirror(List.of(employee("1", "Alice"), employee("2", "Bob")));
+        clock.advance(Duration.ofMinutes(10));
+
+        cache.put(employee("3", "Carol"));
+        cache.remove("1");
+        List<Employee> employees =
+                cache.getAll(() -> fail("A mirrored snapshot must not load")).value();
+
+        assertEquals(List.of("2", "3"), employees.stream().map(Employee::getId).toList());
+        assertTrue(cache.find("3").isPresent());
+    }
+
+    @Test
+    void stopMirroring_shouldLetTheSnapshotExpireFromThatMoment() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.mirror(List.of(employee("1", "Alice")));
+        clock.advance(Duration.ofMinutes(10));
+
+        cache.stopMirroring();
+        clock.advance(Duration.ofSeconds(19));
+        cache.getAll(() -> List.of(employee(String.valueOf(loads.incrementAndGet()), "Alice")));
+        assertEquals(0, loads.get());
+
+        clock.advance(Duration.ofSeconds(11));
+        cache.getAll(() -> List.of(employee(String.valueOf(loads.incrementAndGet()), "Alice")));
+        assertEquals(1, loads.get());
+
+        cache.resumeMirroring();
+        clock.advance(Duration.ofMinutes(10));
+        assertTrue(cache.find("1").isPresent());
+    }
+
+    @Test
+    void getAll_shouldServeStaleWhileReloadFailsAndRetryInBackground() throws InterruptedException {
+        cache = staleServingCache();
+        AtomicInteger loads = new AtomicInteger();
+        AtomicBoolean upstreamDown = new AtomicBoolean();
+        Supplier<List<Employee>> loader = () -> {
+            int load = loads.incrementAndGet();
+            if (upstreamDown.get()) {
+                throw new UpstreamUnreachableException("Mock API not reachable", null);
+            }
+            return List.of(employee(String.valueOf(load), "Alice"));
+        };
+
+        cache.getAll(loader);
+        upstreamDown.set(true);
+        clock.advance(Duration.ofSeconds(30));
+        Snapshot<List<Employee>> served = cache.getAll(loader);
+        assertEquals("1", served.value().get(0).getId());
+        assertEquals(Optional.of(Duration.ofSeconds(30)), served.staleness());
+
+        assertTrue(cache.search("ali", loader).staleness().isPresent());
+        assertEquals(2, loads.get(), "A failed reload must not be retried before stale-retry");
+        assertEquals(2, cache.staleHits());
+
+        upstreamDown.set(false);
+        clock.advance(Duration.ofSeconds(2));
+        cache.getAll(loader);
+        awaitVersion(2);
+
+        Snapshot<List<Employee>> reloaded = cache.getAll(loader);
+        assertEquals("3", reloaded.value().get(0).getId());
+        assertTrue(reloaded.staleness().isEmpty());
+    }
+
+    @Test
+    void getAll_shouldNotHideFailuresOtherThanTheUpstreams() {
+        cache = staleServingCache();
+        cache.getAll(() -> List.of(employee("1", "Alice")));
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThrows(IllegalStateException.class, () -> cache.getAll(() -> {
+            throw new IllegalStateException("Could not decode the employee list");
+        }));
+        assertEquals(0, cache.staleHits());
+    }
+
+    @Test
+    void getAll_shouldFailOnceBeyondMaxStale() {
+        cache = staleServingCache();
+        cache.getAll(() -> List.of(employee("1", "Alice")));
+
+        clock.advance(Duration.ofSeconds(30).plus(Duration.ofMinutes(5)));
+
+        assertThrows(UpstreamUnreachableException.class, () -> cache.getAll(() -> {
+            throw new UpstreamUnreachableException("Mock API not reachable", null);
+        }));
+    }
+
+    @Test
+    void getAll_shouldFailWhenExpiredWithoutMaxStale() {
+        cache.getAll(() -> List.of(employee("1", "Alice")));
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThrows(UpstreamUnreachableException.class, () -> cache.highestSalary(() -> {
+            throw new UpstreamUnreachableException("Mock API not reachable", null);
+        }));
+    }
+
+    private EmployeeCache staleServingCache() {
+        return new EmployeeCache(
+                Duration.ofSeconds(30), Duration.ofSeconds(10), Duration.ofMinutes(5), Duration.ofSeconds(2), clock);
+    }
+
+    private void awaitVersion(long version) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.version() < version && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static Employee employee(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
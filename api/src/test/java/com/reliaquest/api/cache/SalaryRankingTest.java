@@ -0,0 +1,73 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SalaryRankingTest {
+
+    private SalaryRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new SalaryRanking();
+        ranking.add(employee("1", 5000));
+        ranking.add(employee("2", 9000));
+        ranking.add(employee("3", 7000));
+        ranking.add(employee("4", 9000));
+    }
+
+    @Test
+    void top_shouldOrderBySalaryThenInsertion() {
+        assertEquals(List.of("2", "4", "3"), ids(ranking.top(3)));
+        assertEquals(List.of("2", "4", "3", "1"), ids(ranking.top(10)));
+        assertEquals(9000, ranking.highestSalary());
+    }
+
+    @Test
+    void remove_shouldPromoteNextEarnerWhenTopEarnerIsDeleted() {
+        ranking.remove("2");
+        ranking.remove("4");
+
+        assertEquals(7000, ranking.highestSalary());
+        assertEquals(List.of("3", "1"), ids(ranking.top(10)));
+    }
+
+    @Test
+    void add_shouldRerankExistingEmployee() {
+        ranking.add(employee("1", 10000));
+
+        assertEquals(List.of("1", "2"), ids(ranking.top(2)));
+    }
+
+    @Test
+    void retainAll_shouldDropMissingEmployees() {
+        ranking.retainAll(Set.of("1", "3"));
+
+        assertEquals(List.of("3", "1"), ids(ranking.top(10)));
+    }
+
+    @Test
+    void highestSalary_shouldBeZeroWhenEmpty() {
+        ranking.clear();
+
+        assertEquals(0, ranking.highestSalary());
+        assertEquals(List.of(), ranking.top(10));
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    private static Employee employee(String id, int salary) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name("Employee " + id);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
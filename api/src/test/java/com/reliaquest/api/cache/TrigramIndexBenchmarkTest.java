@@ -0,0 +1,83 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares {@link TrigramIndex#search(String)} with the linear {@code contains} scan it replaced. Excluded from the
+ * regular build; run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class TrigramIndexBenchmarkTest {
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bob", "Carol", "Dave", "Erin", "Frank", "Grace", "Heidi", "Ivan", "Judy", "Mallory", "Niaj", "Olivia",
+        "Peggy", "Rupert", "Sybil", "Trent", "Victor", "Walter", "Xavier", "Yolanda", "Zelda"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin"
+    };
+    private static final String[] QUERIES = {"smith", "rodrig", "olivia mar", "ezz", "son", "zelda gonzalez"};
+
+    @Test
+    void searchIndexVersusLinearScan() {
+        for (int size : new int[] {10_000, 100_000, 500_000}) {
+            List<Employee> employees = generate(size);
+            TrigramIndex index = new TrigramIndex();
+            long buildStart = System.nanoTime();
+            employees.forEach(index::add);
+            long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+            System.out.printf("n=%,d (index built in %d ms)%n", size, buildMillis);
+            for (String query : QUERIES) {
+                assertEquals(linearScan(employees, query), index.search(query), query);
+                double linearMicros = time(() -> linearScan(employees, query));
+                double indexMicros = time(() -> index.search(query));
+                System.out.printf(
+                        "  %-16s linear %10.1f us   index %10.1f us   x%.1f%n",
+                        query, linearMicros, indexMicros, linearMicros / indexMicros);
+            }
+        }
+    }
+
+    private static List<Employee> linearScan(List<Employee> employees, String query) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        return employees.stream()
+                .filter(e -> e.getEmployee_name() != null
+                        && e.getEmployee_name().toLowerCase(Locale.ROOT).contains(needle))
+                .toList();
+    }
+
+    private static double time(Runnable search) {
+        for (int i = 0; i < 5; i++) {
+            search.run();
+        }
+        int iterations = 20;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            search.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+
+    private static List<Employee> generate(int size) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee();
+            employee.setId(Integer.toString(i));
+            employee.setEmployee_name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + Integer.toString(i, 36));
+            employees.add(employee);
+        }
+        return employees;
+    }
+}
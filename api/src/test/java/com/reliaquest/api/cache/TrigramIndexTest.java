@@ -0,0 +1,78 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.add(employee("1", "Alice Smith"));
+        index.add(employee("2", "Bob Johnson"));
+        index.add(employee("3", "Carol Smithers"));
+        index.add(employee("4", null));
+    }
+
+    @Test
+    void search_shouldMatchSubstringsIgnoringCaseInInsertionOrder() {
+        assertEquals(List.of("1", "3"), ids(index.search("SMITH")));
+        assertEquals(List.of("2"), ids(index.search("ob jo")));
+        assertEquals(List.of(), ids(index.search("smyth")));
+    }
+
+    @Test
+    void search_shouldNotMatchWhenGramsArePresentButNotAdjacent() {
+        // "ali" and "ith" both occur in "alice smith", but "alith" does not.
+        assertEquals(List.of(), ids(index.search("alith")));
+    }
+
+    @Test
+    void search_shouldScanForFragmentsShorterThanAGram() {
+        assertEquals(List.of("1", "3"), ids(index.search("th")));
+        assertEquals(List.of("1", "2", "3"), ids(index.search("")));
+    }
+
+    @Test
+    void addAndRemove_shouldUpdateIndexIncrementally() {
+        index.add(employee("5", "Dave Smith"));
+        index.remove("1");
+
+        assertEquals(List.of("3", "5"), ids(index.search("smith")));
+        assertEquals(List.of(), ids(index.search("alice")));
+    }
+
+    @Test
+    void add_shouldReindexRenamedEmployeeInPlace() {
+        index.add(employee("1", "Alice Jones"));
+
+        assertEquals(List.of("3"), ids(index.search("smith")));
+        assertEquals(List.of("1"), ids(index.search("jones")));
+    }
+
+    @Test
+    void retainAll_shouldDropEntriesMissingFromReload() {
+        index.retainAll(Set.of("2", "3"));
+
+        assertEquals(2, index.size());
+        assertEquals(List.of("3"), ids(index.search("smith")));
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    private static Employee employee(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
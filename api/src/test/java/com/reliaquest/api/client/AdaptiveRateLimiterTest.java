@@ -0,0 +1,113 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.RateLimitWaitInterruptedException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+    @Test
+    void acquire_shouldLetBurstThroughWithoutWaiting() {
+        AdaptiveRateLimiter limiter = limiter(10, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("test");
+        }
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 100);
+    }
+
+    @Test
+    void acquire_shouldSpaceRequestsOnceBurstIsUsed() {
+        AdaptiveRateLimiter limiter = limiter(10, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire("test");
+        }
+
+        // Five requests fit the burst; the remaining three leave 100 ms apart.
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 250);
+    }
+
+    @Test
+    void onNotModified_shouldGiveBackTheUnchargedShareOfTheSlot() {
+        AdaptiveRateLimiter limiter =
+                new AdaptiveRateLimiter(10, 0.1, 100, 5, 1, 0.5, Duration.ofMillis(10), Duration.ofSeconds(1), 0);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire("test");
+            limiter.onNotModified();
+        }
+
+        // Free revalidations never use up the burst, so none of them waits.
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 100);
+    }
+
+    @Test
+    void onThrottled_shouldHalveRateOncePerThrottlingWindow() {
+        AdaptiveRateLimiter limiter = limiter(10, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        limiter.onThrottled(null);
+        limiter.onThrottled(null);
+
+        assertEquals(5.0, limiter.currentRate(), 0.0001);
+    }
+
+    @Test
+    void onSuccess_shouldIncreaseRateAdditively() {
+        AdaptiveRateLimiter limiter = limiter(10, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        limiter.onSuccess();
+        limiter.onSuccess();
+
+        assertEquals(12.0, limiter.currentRate(), 0.0001);
+    }
+
+    @Test
+    void acquire_shouldFailFastWhileRetryAfterExceedsMaxWait() {
+        AdaptiveRateLimiter limiter = limiter(10, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        limiter.onThrottled(Duration.ofSeconds(30));
+
+        UpstreamRateLimitedException e =
+                assertThrows(UpstreamRateLimitedException.class, () -> limiter.acquire("test"));
+        assertTrue(e.getRetryAfter().getSeconds() >= 29);
+    }
+
+    @Test
+    void acquire_shouldKeepTheInterruptFlagWhenInterruptedWhileWaiting() {
+        AdaptiveRateLimiter limiter = limiter(10, Duration.ofMillis(10), Duration.ofSeconds(1));
+        limiter.onThrottled(Duration.ofMillis(500));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(RateLimitWaitInterruptedException.class, () -> limiter.acquire("test"));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void parseRetryAfter_shouldAcceptSecondsAndHttpDate() {
+        assertEquals(Duration.ofSeconds(42), AdaptiveRateLimiter.parseRetryAfter("42"));
+        assertNull(AdaptiveRateLimiter.parseRetryAfter(null));
+        assertNull(AdaptiveRateLimiter.parseRetryAfter("soon"));
+
+        String inAMinute = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusSeconds(60));
+        Duration parsed = AdaptiveRateLimiter.parseRetryAfter(inAMinute);
+        assertTrue(parsed.getSeconds() > 50 && parsed.getSeconds() <= 60);
+    }
+
+    private static AdaptiveRateLimiter limiter(double rate, Duration cooldown, Duration maxWait) {
+        return new AdaptiveRateLimiter(rate, 0.1, 100, 5, 1, 0.5, cooldown, maxWait);
+    }
+}
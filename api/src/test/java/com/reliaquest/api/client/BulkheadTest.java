@@ -0,0 +1,47 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+    private final Bulkhead bulkhead = new Bulkhead(2, Duration.ZERO);
+
+    @Test
+    void acquire_shouldCapCallsInFlightPerOperation() {
+        Bulkhead.Permit first = bulkhead.acquire("slow");
+        Bulkhead.Permit second = bulkhead.acquire("slow");
+
+        assertThrows(UpstreamUnavailableException.class, () -> bulkhead.acquire("slow"));
+        assertEquals(1, bulkhead.rejected());
+        try (Bulkhead.Permit other = bulkhead.acquire("other")) {
+            assertEquals(1, bulkhead.inFlight("other"));
+        }
+
+        first.close();
+        second.close();
+        assertEquals(0, bulkhead.inFlight("slow"));
+    }
+
+    @Test
+    void acquire_shouldWaitForAPlaceUpToMaxWait() throws InterruptedException {
+        Bulkhead waiting = new Bulkhead(1, Duration.ofSeconds(2));
+        Bulkhead.Permit held = waiting.acquire("op");
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            held.close();
+        });
+
+        try (Bulkhead.Permit permit = waiting.acquire("op")) {
+            assertEquals(1, waiting.inFlight("op"));
+        }
+        releaser.join();
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.CircuitBreaker.State;
+import com.reliaquest.api.client.CircuitBreaker.Transition;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofSeconds(10), 1, now::get);
+
+    @Test
+    void onFailure_shouldOpenOnlyAfterThresholdFailuresInARow() {
+        fail(2);
+        breaker.acquirePermission("test").onSuccess();
+        fail(2);
+
+        assertEquals(State.CLOSED, breaker.state());
+
+        fail(1);
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    void acquirePermission_shouldFailFastWhileOpen() {
+        fail(3);
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        UpstreamUnavailableException e =
+                assertThrows(UpstreamUnavailableException.class, () -> breaker.acquirePermission("test"));
+        assertEquals(Duration.ofSeconds(6), e.getRetryAfter());
+        assertEquals(1, breaker.rejected());
+    }
+
+    @Test
+    void acquirePermission_shouldLetOneProbeThroughOnceOpenDurationPassed() {
+        fail(3);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        breaker.acquirePermission("probe");
+
+        assertEquals(State.HALF_OPEN, breaker.state());
+        assertThrows(UpstreamUnavailableException.class, () -> breaker.acquirePermission("test"));
+    }
+
+    @Test
+    void probe_shouldCloseOnSuccessAndReopenOnFailure() {
+        List<Transition> transitions = new ArrayList<>();
+        breaker.addListener(transitions::add);
+        fail(3);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.acquirePermission("probe").onFailure();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.acquirePermission("probe").onSuccess();
+
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals(
+                List.of(
+                        new Transition(State.CLOSED, State.OPEN),
+                        new Transition(State.OPEN, State.HALF_OPEN),
+                        new Transition(State.HALF_OPEN, State.OPEN),
+                        new Transition(State.OPEN, State.HALF_OPEN),
+                        new Transition(State.HALF_OPEN, State.CLOSED)),
+                transitions);
+    }
+
+    @Test
+    void release_shouldFreeTheProbeWithoutClosingTheCircuit() {
+        fail(3);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        CircuitBreaker.Permit probe = breaker.acquirePermission("probe");
+
+        probe.release();
+
+        assertEquals(State.HALF_OPEN, breaker.state());
+        breaker.acquirePermission("probe").onSuccess();
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void onSuccess_shouldIgnoreACallLetThroughBeforeTheCircuitOpened() {
+        CircuitBreaker.Permit slow = breaker.acquirePermission("slow");
+        fail(3);
+
+        slow.onSuccess();
+
+        assertEquals(State.OPEN, breaker.state());
+        assertThrows(UpstreamUnavailableException.class, () -> breaker.acquirePermission("test"));
+    }
+
+    @Test
+    void release_shouldNotFreeAProbeTheCallNeverHeld() {
+        CircuitBreaker.Permit slow = breaker.acquirePermission("slow");
+        fail(3);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.acquirePermission("probe");
+
+        slow.release();
+
+        assertThrows(UpstreamUnavailableException.class, () -> breaker.acquirePermission("test"));
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.acquirePermission("test").onFailure();
+        }
+    }
+}
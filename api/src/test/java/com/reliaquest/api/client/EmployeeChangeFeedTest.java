@@ -0,0 +1,110 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class EmployeeChangeFeedTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmployeeCache cache;
+    private EmployeeChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeCache(Duration.ofSeconds(30), Duration.ofSeconds(10), Clock.systemUTC());
+        feed = new EmployeeChangeFeed(
+                cache,
+                objectMapper,
+                new SimpleMeterRegistry(),
+                WebClient.builder(),
+                "http://localhost:0/api/v1/employee",
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(45),
+                Duration.ofMillis(100),
+                Duration.ofSeconds(10));
+    }
+
+    @Test
+    void apply_shouldMirrorTheSnapshotAndThenApplyChanges() {
+        feed.apply(event("SNAPSHOT", "e-2", List.of(employee("1", "Alice"), employee("2", "Bob"))));
+        feed.apply(event("ADDED", "e-3", employee("3", "Carol")));
+        feed.apply(event("REMOVED", "e-4", employee("1", "Alice")));
+
+        assertTrue(cache.isMirrored());
+        assertEquals(
+                List.of("2", "3"),
+                cache.getAll(List::of).value().stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void apply_shouldResumeMirroringOnlyOnceCaughtUp() {
+        feed.apply(event("SNAPSHOT", "e-1", List.of(employee("1", "Alice"))));
+        cache.stopMirroring();
+
+        feed.apply(event("ADDED", "e-2", employee("2", "Bob")));
+        assertFalse(cache.isMirrored());
+        feed.apply(event("RESUMED", "e-2", 2));
+
+        assertTrue(cache.isMirrored());
+        assertTrue(cache.find("2").isPresent());
+    }
+
+    @Test
+    void apply_shouldSkipHeartbeats() {
+        feed.apply(ServerSentEvent.<JsonNode>builder().comment("heartbeat").build());
+
+        assertFalse(cache.isMirrored());
+    }
+
+    @Test
+    void nextBackoff_shouldDoubleUpToTheMaximum() {
+        assertBetween(Duration.ofMillis(100), Duration.ofMillis(150), feed.nextBackoff());
+        assertBetween(Duration.ofMillis(200), Duration.ofMillis(300), feed.nextBackoff());
+        assertBetween(Duration.ofMillis(400), Duration.ofMillis(600), feed.nextBackoff());
+        for (int i = 0; i < 40; i++) {
+            feed.nextBackoff();
+        }
+        assertEquals(Duration.ofSeconds(10), feed.nextBackoff());
+    }
+
+    @Test
+    void nextBackoff_shouldStartOverOnceAReconnectIsConfirmed() {
+        feed.nextBackoff();
+        feed.nextBackoff();
+        feed.apply(event("SNAPSHOT", "e-1", List.of(employee("1", "Alice"))));
+        assertBetween(Duration.ofMillis(100), Duration.ofMillis(150), feed.nextBackoff());
+
+        feed.nextBackoff();
+        feed.apply(event("RESUMED", "e-1", 1));
+        assertBetween(Duration.ofMillis(100), Duration.ofMillis(150), feed.nextBackoff());
+    }
+
+    private static void assertBetween(Duration min, Duration max, Duration actual) {
+        assertTrue(actual.compareTo(min) >= 0 && actual.compareTo(max) <= 0, actual + " outside " + min + ".." + max);
+    }
+
+    private ServerSentEvent<JsonNode> event(String name, String id, Object data) {
+        return ServerSentEvent.<JsonNode>builder()
+                .event(name)
+                .id(id)
+                .data(objectMapper.valueToTree(data))
+                .build();
+    }
+
+    private static Map<String, Object> employee(String id, String name) {
+        return Map.of("id", id, "employee_name", name, "employee_salary", 1000);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class EmployeePageIteratorTest {
+
+    private final Map<String, ApiResponse<List<Employee>>> pages = new HashMap<>();
+    private final List<String> requestedCursors = new ArrayList<>();
+    private final EmployeePageIterator iterator = new EmployeePageIterator(cursor -> {
+        requestedCursors.add(cursor);
+        return pages.get(cursor);
+    });
+
+    @Test
+    void next_shouldFetchPagesOnlyWhenThePreviousOneIsConsumed() {
+        pages.put(null, page(List.of(employee("1"), employee("2")), "c1"));
+        pages.put("c1", page(List.of(employee("3")), null));
+
+        assertTrue(requestedCursors.isEmpty());
+        assertEquals("1", iterator.next().getId());
+        assertEquals("2", iterator.next().getId());
+        assertEquals(1, requestedCursors.size());
+
+        assertEquals("3", iterator.next().getId());
+        assertFalse(iterator.hasNext());
+        assertEquals(2, requestedCursors.size());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void hasNext_shouldSkipEmptyPages() {
+        pages.put(null, page(List.of(), "c1"));
+        pages.put("c1", page(List.of(employee("1")), null));
+
+        assertTrue(iterator.hasNext());
+        assertEquals("1", iterator.next().getId());
+        assertFalse(iterator.hasNext());
+    }
+
+    private static ApiResponse<List<Employee>> page(List<Employee> employees, String nextCursor) {
+        return new ApiResponse<>(employees, "Successfully processed request.", null, nextCursor);
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+}
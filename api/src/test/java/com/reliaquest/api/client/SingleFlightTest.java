@@ -0,0 +1,84 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void execute_shouldShareOneCallBetweenConcurrentCallers() throws Exception {
+        int callers = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            Future<String> leader = pool.submit(() -> singleFlight.execute("GET /employee", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "result";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                followers.add(pool.submit(() -> singleFlight.execute("GET /employee", () -> {
+                    calls.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            awaitCoalesced(callers - 1);
+            release.countDown();
+
+            assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(1, singleFlight.executedCount());
+        assertEquals(callers - 1, singleFlight.coalescedCount());
+    }
+
+    @Test
+    void execute_shouldRunAgainOnceThePreviousCallCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("GET /employee", calls::incrementAndGet);
+        singleFlight.execute("GET /employee", calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, singleFlight.coalescedCount());
+    }
+
+    @Test
+    void execute_shouldPropagateFailureAndReleaseKey() {
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("GET /employee", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals("ok", singleFlight.execute("GET /employee", () -> "ok"));
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Bytes on the wire and decode CPU per employee for a {@code GET /api/v1/employee} payload in each encoding the api can
+ * negotiate: JSON and SMILE, each plain and gzipped. Run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class WireFormatBenchmarkTest {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Test
+    void bytesAndDecodeCpuPerEmployee() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int size : new int[] {1_000, 10_000, 100_000}) {
+            Map<String, Object> body = body(size);
+            byte[] jsonBytes = json.writeValueAsBytes(body);
+            byte[] smileBytes = smile.writeValueAsBytes(body);
+            Map<String, Encoded> encodings = new LinkedHashMap<>();
+            encodings.put("json", new Encoded(json, jsonBytes, false));
+            encodings.put("json+gzip", new Encoded(json, gzip(jsonBytes), true));
+            encodings.put("smile", new Encoded(smile, smileBytes, false));
+            encodings.put("smile+gzip", new Encoded(smile, gzip(smileBytes), true));
+
+            System.out.printf("n=%,7d%n", size);
+            for (Map.Entry<String, Encoded> encoding : encodings.entrySet()) {
+                Encoded encoded = encoding.getValue();
+                assertEquals(size, encoded.decode());
+                System.out.printf(
+                        "  %-10s %7.1f B/employee on the wire   %7.0f ns CPU/employee to decode%n",
+                        encoding.getKey(),
+                        encoded.bytes().length / (double) size,
+                        cpuNanosPerEmployee(threads, size, encoded));
+            }
+        }
+    }
+
+    private static double cpuNanosPerEmployee(ThreadMXBean threads, int size, Encoded encoded) throws Exception {
+        for (int i = 0; i < 5; i++) {
+            encoded.decode();
+        }
+        int iterations = 10;
+        long before = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            encoded.decode();
+        }
+        return (threads.getCurrentThreadCpuTime() - before) / (double) iterations / size;
+    }
+
+    private static Map<String, Object> body(int size) {
+        List<Map<String, Object>> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(Map.of(
+                    "id", UUID.randomUUID().toString(),
+                    "employee_name", "Employee Number " + i,
+                    "employee_salary", 30_000 + i,
+                    "employee_age", 20 + i % 50,
+                    "employee_title", "Senior Widget Engineer",
+                    "employee_email", "employee" + i + "@company.com"));
+        }
+        return Map.of("data", employees, "status", "Successfully processed request.");
+    }
+
+    private static byte[] gzip(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    /** A payload as received, and how the api decodes it, inflating it first when gzipped. */
+    private record Encoded(ObjectMapper mapper, byte[] bytes, boolean gzipped) {
+
+        int decode() throws Exception {
+            try (InputStream in = gzipped
+                    ? new GZIPInputStream(new ByteArrayInputStream(bytes))
+                    : new ByteArrayInputStream(bytes)) {
+                return mapper.readValue(in, EMPLOYEE_LIST).data().size();
+            }
+        }
+    }
+}
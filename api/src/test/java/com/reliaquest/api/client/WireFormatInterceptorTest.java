@@ -0,0 +1,88 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.client.WireFormatInterceptor.WireFormat;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class WireFormatInterceptorTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Test
+    void intercept_shouldNegotiateGzippedSmileAndInflateIt() throws Exception {
+        RestTemplate restTemplate = restTemplate(WireFormat.SMILE, true);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT, "application/x-jackson-smile, application/json;q=0.9"))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andRespond(withSuccess(gzip(new ObjectMapper(new SmileFactory()).writeValueAsBytes(body())), SMILE)
+                        .headers(headers));
+
+        List<Employee> employees = get(restTemplate);
+
+        assertEquals("Alice", employees.get(0).getEmployee_name());
+        server.verify();
+    }
+
+    @Test
+    void intercept_shouldLeavePlainJsonAlone() throws Exception {
+        RestTemplate restTemplate = restTemplate(WireFormat.JSON, false);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT, "application/json"))
+                .andRespond(withSuccess(new ObjectMapper().writeValueAsBytes(body()), MediaType.APPLICATION_JSON));
+
+        List<Employee> employees = get(restTemplate);
+
+        assertEquals("Alice", employees.get(0).getEmployee_name());
+        server.verify();
+    }
+
+    private static RestTemplate restTemplate(WireFormat format, boolean gzip) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new WireFormatInterceptor(format, gzip));
+        return restTemplate;
+    }
+
+    private static List<Employee> get(RestTemplate restTemplate) {
+        return restTemplate
+                .exchange(URL, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {})
+                .getBody()
+                .data();
+    }
+
+    private static Map<String, Object> body() {
+        return Map.of(
+                "data", List.of(Map.of("id", "1", "employee_name", "Alice", "employee_salary", 1000)),
+                "status", "Successfully processed request.");
+    }
+
+    private static byte[] gzip(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
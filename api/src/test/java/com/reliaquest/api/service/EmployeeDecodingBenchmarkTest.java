@@ -0,0 +1,109 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Bytes allocated per employee when decoding a {@code GET /api/v1/employee} payload, comparing typed binding into
+ * {@link ApiResponse} with the previous {@code Map}-then-copy decoding. Run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeDecodingBenchmarkTest {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void allocationPerEmployee() throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int size : new int[] {1_000, 10_000, 100_000}) {
+            byte[] payload = payload(size);
+            assertEquals(size, decodeTyped(payload));
+            assertEquals(size, decodeViaMap(payload));
+
+            double typed = bytesPerEmployee(threads, size, () -> decodeTyped(payload));
+            double viaMap = bytesPerEmployee(threads, size, () -> decodeViaMap(payload));
+            System.out.printf(
+                    "n=%,7d  map+copy %6.0f B/employee   typed %6.0f B/employee   (-%.0f%%)%n",
+                    size, viaMap, typed, 100 * (1 - typed / viaMap));
+        }
+    }
+
+    @Test
+    void typedDecodingSkipsUnknownFields() throws Exception {
+        String json = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":1,"
+                + "\"nickname\":{\"nested\":[1,2,3]}}],\"status\":\"ok\",\"extra\":true}";
+
+        ApiResponse<List<Employee>> response = objectMapper.readValue(json, EMPLOYEE_LIST);
+
+        assertEquals("Alice", response.data().get(0).getEmployee_name());
+    }
+
+    private int decodeTyped(byte[] payload) throws Exception {
+        return objectMapper.readValue(payload, EMPLOYEE_LIST).data().size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private int decodeViaMap(byte[] payload) throws Exception {
+        Map<String, Object> body = objectMapper.readValue(payload, Map.class);
+        List<Map<String, Object>> rawList = (List<Map<String, Object>>) body.get("data");
+        return rawList.stream()
+                .map(map -> {
+                    Employee e = new Employee();
+                    e.setId((String) map.get("id"));
+                    e.setEmployee_name((String) map.get("employee_name"));
+                    e.setEmployee_salary(((Number) map.get("employee_salary")).intValue());
+                    e.setEmployee_age(((Number) map.get("employee_age")).intValue());
+                    e.setEmployee_title((String) map.get("employee_title"));
+                    e.setEmployee_email((String) map.get("employee_email"));
+                    return e;
+                })
+                .toList()
+                .size();
+    }
+
+    private static double bytesPerEmployee(
+            com.sun.management.ThreadMXBean threads, int size, Callable<Integer> decode) throws Exception {
+        for (int i = 0; i < 5; i++) {
+            decode.call();
+        }
+        int iterations = 10;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            decode.call();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / (double) iterations / size;
+    }
+
+    private byte[] payload(int size) throws Exception {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(objectMapper.writeValueAsString(Map.of(
+                    "id", UUID.randomUUID().toString(),
+                    "employee_name", "Employee Number " + i,
+                    "employee_salary", 30_000 + i,
+                    "employee_age", 20 + i % 50,
+                    "employee_title", "Senior Widget Engineer",
+                    "employee_email", "employee" + i + "@company.com")));
+        }
+        json.append("],\"status\":\"Successfully processed request.\"}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
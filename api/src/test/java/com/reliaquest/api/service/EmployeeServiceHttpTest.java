@@ -0,0 +1,218 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.Bulkhead;
+import com.reliaquest.api.client.CircuitBreaker;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.WireFormatInterceptor.WireFormat;
+import com.reliaquest.api.config.RestTemplateConfig;
+import com.reliaquest.api.model.BulkResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.support.MockEmployeeApiStub;
+import com.reliaquest.api.support.MockEmployeeApiStub.Latency;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+/** {@link EmployeeService} over real HTTP against {@link MockEmployeeApiStub}, with faults the stub injects. */
+class EmployeeServiceHttpTest {
+
+    private MockEmployeeApiStub stub;
+
+    @BeforeEach
+    void setUp() {
+        stub = MockEmployeeApiStub.start().seed(50, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void getAllEmployees_shouldRetryThroughA429Burst() {
+        stub.throttle(3, 2, Duration.ZERO);
+
+        List<Employee> employees = service(0, Duration.ofSeconds(1)).getAllEmployees().value();
+
+        assertEquals(50, employees.size());
+        assertEquals(2, stub.throttledRequests());
+        assertEquals(3, stub.requests());
+    }
+
+    @Test
+    void getAllEmployees_shouldRecordAttemptsAndRetries() {
+        stub.throttle(3, 2, Duration.ZERO);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        service(0, Duration.ofSeconds(1), meterRegistry).getAllEmployees();
+
+        assertEquals(
+                2,
+                meterRegistry
+                        .get("employee.upstream.requests")
+                        .tag("outcome", "throttled")
+                        .timer()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.upstream.requests")
+                        .tag("outcome", "success")
+                        .timer()
+                        .count());
+        assertEquals(2, meterRegistry.get("employee.upstream.retries").counter().count());
+        assertTrue(meterRegistry.find("employee.upstream.retries.exhausted").meters().isEmpty());
+    }
+
+    @Test
+    void getAllEmployees_shouldWalkEveryPage() {
+        List<Employee> employees = service(7, Duration.ofSeconds(1)).getAllEmployees().value();
+
+        assertEquals(
+                stub.employees().stream().map(Employee::getId).toList(),
+                employees.stream().map(Employee::getId).toList());
+        assertEquals(8, stub.requests());
+    }
+
+    @Test
+    void getAllEmployees_shouldRevalidateWithIfNoneMatch() {
+        EmployeeService employeeService = service(0, Duration.ofSeconds(1), Duration.ofMillis(20));
+
+        List<Employee> first = employeeService.getAllEmployees().value();
+        sleep(Duration.ofMillis(30));
+        List<Employee> second = employeeService.getAllEmployees().value();
+
+        assertSame(first, second);
+        assertEquals(2, stub.requests());
+        assertEquals(1, stub.notModifiedResponses());
+    }
+
+    @Test
+    void getAllEmployees_shouldFetchTheListAgainOnceItChanged() {
+        EmployeeService employeeService = service(0, Duration.ofSeconds(1), Duration.ofMillis(20));
+        employeeService.getAllEmployees();
+        Employee added = new Employee();
+        added.setId(UUID.randomUUID().toString());
+        added.setEmployee_name("Added Upstream");
+        added.setEmployee_salary(1000);
+        stub.add(added);
+
+        sleep(Duration.ofMillis(30));
+        List<Employee> employees = employeeService.getAllEmployees().value();
+
+        assertEquals(51, employees.size());
+        assertEquals(0, stub.notModifiedResponses());
+    }
+
+    @Test
+    void getEmployeeById_shouldTimeOutOnASlowServer() {
+        stub.latency(Latency.fixed(Duration.ofSeconds(2)));
+        String id = stub.employees().get(0).getId();
+        EmployeeService employeeService = service(0, Duration.ofMillis(100));
+
+        long started = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> employeeService.getEmployeeById(id));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(1)) < 0);
+    }
+
+    @Test
+    void createEmployee_shouldSurfaceServerErrors() {
+        stub.serverErrorRate(1);
+
+        assertThrows(
+                HttpServerErrorException.class,
+                () -> service(0, Duration.ofSeconds(1))
+                        .createEmployee(new EmployeeInput("Alice", 8000, 30, "Engineer")));
+        assertEquals(1, stub.failedRequests());
+    }
+
+    @Test
+    void createEmployees_shouldRetryThroughA429BurstAndKeepInputOrder() {
+        stub.throttle(10, 3, Duration.ZERO);
+        List<EmployeeInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            inputs.add(new EmployeeInput("Bulk " + i, 8000 + i, 30, "Engineer"));
+        }
+
+        BulkResult<Employee> result = service(0, Duration.ofSeconds(1)).createEmployees(inputs);
+
+        assertEquals(30, result.succeeded());
+        assertEquals(0, result.failed());
+        for (int i = 0; i < 30; i++) {
+            assertEquals(i, result.items().get(i).index());
+            assertEquals("Bulk " + i, result.items().get(i).data().getEmployee_name());
+        }
+        assertEquals(80, stub.employees().size());
+        assertTrue(stub.throttledRequests() > 0);
+    }
+
+    @Test
+    void getEmployeesByIds_shouldLoadTheListOnceAndReportEveryMiss() {
+        List<Employee> employees = stub.employees();
+        String unknown = UUID.randomUUID().toString();
+        List<String> ids = List.of(employees.get(3).getId(), unknown, "not-a-uuid", employees.get(9).getId());
+
+        BulkResult<Employee> result = service(0, Duration.ofSeconds(1)).getEmployeesByIds(ids);
+
+        assertEquals(2, result.succeeded());
+        assertEquals(
+                List.of(200, 404, 400, 200),
+                result.items().stream().map(BulkResult.Item::status).toList());
+        assertEquals(employees.get(9).getId(), result.items().get(3).data().getId());
+        assertEquals(2, stub.requests());
+    }
+
+    private EmployeeService service(int pageSize, Duration readTimeout) {
+        return service(pageSize, readTimeout, new SimpleMeterRegistry());
+    }
+
+    private EmployeeService service(int pageSize, Duration readTimeout, MeterRegistry meterRegistry) {
+        return service(pageSize, readTimeout, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    private EmployeeService service(int pageSize, Duration readTimeout, Duration cacheTtl) {
+        return service(pageSize, readTimeout, cacheTtl, new SimpleMeterRegistry());
+    }
+
+    private EmployeeService service(
+            int pageSize, Duration readTimeout, Duration cacheTtl, MeterRegistry meterRegistry) {
+        RestTemplate restTemplate = new RestTemplateConfig()
+                .restTemplate(new RestTemplateBuilder(), Duration.ofSeconds(1), readTimeout, WireFormat.SMILE, true);
+        return new EmployeeService(
+                restTemplate,
+                new EmployeeCache(cacheTtl, cacheTtl.dividedBy(2), Clock.systemUTC()),
+                new SingleFlight(),
+                new AdaptiveRateLimiter(100, 1, 1000, 100, 1, 0.5, Duration.ofMillis(10), Duration.ofSeconds(2)),
+                pageSize,
+                stub.baseUrl(),
+                meterRegistry,
+                EmployeeService.DEFAULT_BULK_CONCURRENCY,
+                new CircuitBreaker(5, Duration.ofSeconds(10), 1),
+                new Bulkhead(20, Duration.ofMillis(500)));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,49 +3,61 @@ package com.reliaquest.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.Bulkhead;
+import com.reliaquest.api.client.CircuitBreaker;
+import com.reliaquest.api.client.SingleFlight;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.InvalidUUIDException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BulkResult;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 class EmployeeServiceTest {
 
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
+    private CircuitBreaker circuitBreaker;
     private EmployeeService employeeService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        employeeService = service(
+                0, new AdaptiveRateLimiter(100, 1, 1000, 100, 1, 0.5, Duration.ofMillis(10), Duration.ofMillis(500)));
     }
 
     @Test
     void getAllEmployees_shouldReturnList() {
-        Map<String, Object> data = new HashMap<>();
-        data.put("id", UUID.randomUUID().toString());
-        data.put("employee_name", "Alice");
-        data.put("employee_salary", 8000);
-        data.put("employee_age", 30);
-        data.put("employee_title", "Engineer");
-        data.put("employee_email", "alice@example.com");
-
-        Map<String, Object> mockResponseBody = new HashMap<>();
-        mockResponseBody.put("data", List.of(data));
-        ResponseEntity<Map> response = new ResponseEntity<>(mockResponseBody, HttpStatus.OK);
-
-        when(restTemplate.getForEntity(anyString(), eq(Map.class))).thenReturn(response);
+        Employee alice =
+                employee(UUID.randomUUID().toString(), "Alice", 8000, 30, "Engineer", "alice@example.com");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenReturn(ok(List.of(alice)));
 
-        List<Employee> employees = employeeService.getAllEmployees();
+        List<Employee> employees = employeeService.getAllEmployees().value();
         assertEquals(1, employees.size());
         assertEquals("Alice", employees.get(0).getEmployee_name());
     }
@@ -53,19 +65,9 @@ class EmployeeServiceTest {
     @Test
     void getEmployeeById_shouldReturnEmployee() {
         String uuid = UUID.randomUUID().toString();
-        Map<String, Object> data = new HashMap<>();
-        data.put("id", uuid);
-        data.put("employee_name", "Bob");
-        data.put("employee_salary", 9000);
-        data.put("employee_age", 28);
-        data.put("employee_title", "Manager");
-        data.put("employee_email", "bob@example.com");
-
-        Map<String, Object> mockResponseBody = new HashMap<>();
-        mockResponseBody.put("data", data);
-        ResponseEntity<Map> response = new ResponseEntity<>(mockResponseBody, HttpStatus.OK);
-
-        when(restTemplate.getForEntity(contains(uuid), eq(Map.class))).thenReturn(response);
+        Employee bob = employee(uuid, "Bob", 9000, 28, "Manager", "bob@example.com");
+        when(restTemplate.exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE)))
+                .thenReturn(ok(bob));
 
         Employee emp = employeeService.getEmployeeById(uuid);
         assertEquals("Bob", emp.getEmployee_name());
@@ -82,7 +84,8 @@ class EmployeeServiceTest {
                 "".getBytes(StandardCharsets.UTF_8),
                 StandardCharsets.UTF_8);
 
-        when(restTemplate.getForEntity(contains(uuid), eq(Map.class))).thenThrow(notFoundException);
+        when(restTemplate.exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE)))
+                .thenThrow(notFoundException);
 
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(uuid));
     }
@@ -101,20 +104,9 @@ class EmployeeServiceTest {
         input.setSalary(8500);
         input.setTitle("Dev");
 
-        Map<String, Object> data = new HashMap<>();
-        data.put("id", UUID.randomUUID().toString());
-        data.put("employee_name", "Carol");
-        data.put("employee_salary", 8500);
-        data.put("employee_age", 25);
-        data.put("employee_title", "Dev");
-        data.put("employee_email", "carol@example.com");
-
-        Map<String, Object> mockResponseBody = new HashMap<>();
-        mockResponseBody.put("data", data);
-        ResponseEntity<Map> response = new ResponseEntity<>(mockResponseBody, HttpStatus.OK);
-
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(response);
+        Employee carol = employee(UUID.randomUUID().toString(), "Carol", 8500, 25, "Dev", "carol@example.com");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(EMPLOYEE)))
+                .thenReturn(ok(carol));
 
         Employee emp = employeeService.createEmployee(input);
         assertEquals("Carol", emp.getEmployee_name());
@@ -125,52 +117,46 @@ class EmployeeServiceTest {
     void deleteEmployee_shouldReturnName() {
         String uuid = UUID.randomUUID().toString();
 
-        Map<String, Object> getData = new HashMap<>();
-        getData.put("id", uuid);
-        getData.put("employee_name", "Dave");
-        getData.put("employee_salary", 7500);
-        getData.put("employee_age", 32);
-        getData.put("employee_title", "QA");
-        getData.put("employee_email", "dave@example.com");
-
-        Map<String, Object> getResponseBody = new HashMap<>();
-        getResponseBody.put("data", getData);
-        ResponseEntity<Map> getResponse = new ResponseEntity<>(getResponseBody, HttpStatus.OK);
-
-        when(restTemplate.getForEntity(contains(uuid), eq(Map.class))).thenReturn(getResponse);
-
-        Map<String, Object> deleteResponseBody = new HashMap<>();
-        deleteResponseBody.put("data", true);
-        ResponseEntity<Map> deleteResponse = new ResponseEntity<>(deleteResponseBody, HttpStatus.OK);
-
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(deleteResponse);
+        Employee dave = employee(uuid, "Dave", 7500, 32, "QA", "dave@example.com");
+        when(restTemplate.exchange(endsWith("/" + uuid), eq(HttpMethod.DELETE), isNull(), eq(EMPLOYEE)))
+                .thenReturn(ok(dave));
 
         String deletedName = employeeService.deleteEmployee(uuid);
         assertEquals("Dave", deletedName);
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE));
+    }
+
+    @Test
+    void deleteEmployee_shouldThrowNotFoundForUnknownId() {
+        String uuid = UUID.randomUUID().toString();
+        when(restTemplate.exchange(endsWith("/" + uuid), eq(HttpMethod.DELETE), isNull(), eq(EMPLOYEE)))
+                .thenThrow(new HttpClientErrorException(
+                        HttpStatus.NOT_FOUND,
+                        "404 Not Found",
+                        HttpHeaders.EMPTY,
+                        "".getBytes(StandardCharsets.UTF_8),
+                        StandardCharsets.UTF_8));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployee(uuid));
     }
 
     @Test
     void getTop10HighestEarningNames_shouldReturnCorrectList() {
-        List<Map<String, Object>> employeesData = new ArrayList<>();
+        List<Employee> employeesData = new ArrayList<>();
         for (int i = 1; i <= 15; i++) {
-            Map<String, Object> emp = new HashMap<>();
-            emp.put("id", UUID.randomUUID().toString());
-            emp.put("employee_name", "Emp" + i);
-            emp.put("employee_salary", 1000 * i);
-            emp.put("employee_age", 25 + i);
-            emp.put("employee_title", "Title" + i);
-            emp.put("employee_email", "emp" + i + "@example.com");
-            employeesData.add(emp);
+            employeesData.add(employee(
+                    UUID.randomUUID().toString(),
+                    "Emp" + i,
+                    1000 * i,
+                    25 + i,
+                    "Title" + i,
+                    "emp" + i + "@example.com"));
         }
 
-        Map<String, Object> mockResponseBody = new HashMap<>();
-        mockResponseBody.put("data", employeesData);
-        ResponseEntity<Map> response = new ResponseEntity<>(mockResponseBody, HttpStatus.OK);
-
-        when(restTemplate.getForEntity(anyString(), eq(Map.class))).thenReturn(response);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenReturn(ok(employeesData));
 
-        List<String> top10 = employeeService.getTop10HighestEarningNames();
+        List<String> top10 = employeeService.getTop10HighestEarningNames().value();
 
         List<String> expected = new ArrayList<>();
         for (int i = 15; i >= 6; i--) {
@@ -182,82 +168,248 @@ class EmployeeServiceTest {
 
     @Test
     void getHighestSalary_shouldReturnMaxSalary() {
-        List<Map<String, Object>> employeesData = new ArrayList<>();
-        employeesData.add(Map.of(
-                "id",
-                UUID.randomUUID().toString(),
-                "employee_name",
-                "John",
-                "employee_salary",
-                7000,
-                "employee_age",
-                30,
-                "employee_title",
-                "Dev",
-                "employee_email",
-                "john@example.com"));
-        employeesData.add(Map.of(
-                "id",
-                UUID.randomUUID().toString(),
-                "employee_name",
-                "Jane",
-                "employee_salary",
-                9000,
-                "employee_age",
-                35,
-                "employee_title",
-                "Manager",
-                "employee_email",
-                "jane@example.com"));
-
-        Map<String, Object> mockResponseBody = new HashMap<>();
-        mockResponseBody.put("data", employeesData);
-        ResponseEntity<Map> response = new ResponseEntity<>(mockResponseBody, HttpStatus.OK);
-
-        when(restTemplate.getForEntity(anyString(), eq(Map.class))).thenReturn(response);
-
-        int highest = employeeService.getHighestSalary();
+        List<Employee> employeesData = List.of(
+                employee(UUID.randomUUID().toString(), "John", 7000, 30, "Dev", "john@example.com"),
+                employee(UUID.randomUUID().toString(), "Jane", 9000, 35, "Manager", "jane@example.com"));
+
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenReturn(ok(employeesData));
+
+        int highest = employeeService.getHighestSalary().value();
         assertEquals(9000, highest);
     }
 
     @Test
     void searchEmployeesByName_shouldReturnMatching() {
-        List<Map<String, Object>> employeesData = new ArrayList<>();
-        employeesData.add(Map.of(
-                "id",
-                UUID.randomUUID().toString(),
-                "employee_name",
-                "Alice Smith",
-                "employee_salary",
-                7000,
-                "employee_age",
-                29,
-                "employee_title",
-                "Engineer",
-                "employee_email",
-                "alice@example.com"));
-        employeesData.add(Map.of(
-                "id",
-                UUID.randomUUID().toString(),
-                "employee_name",
-                "Bob Johnson",
-                "employee_salary",
-                6500,
-                "employee_age",
-                35,
-                "employee_title",
-                "QA",
-                "employee_email",
-                "bob@example.com"));
-
-        Map<String, Object> mockResponseBody = new HashMap<>();
-        mockResponseBody.put("data", employeesData);
-        ResponseEntity<Map> response = new ResponseEntity<>(mockResponseBody, HttpStatus.OK);
-
-        when(restTemplate.getForEntity(anyString(), eq(Map.class))).thenReturn(response);
-
-        List<Employee> result = employeeService.searchEmployeesByName("smith");
+        List<Employee> employeesData = List.of(
+                employee(UUID.randomUUID().toString(), "Alice Smith", 7000, 29, "Engineer", "alice@example.com"),
+                employee(UUID.randomUUID().toString(), "Bob Johnson", 6500, 35, "QA", "bob@example.com"));
+
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenReturn(ok(employeesData));
+
+        List<Employee> result = employeeService.searchEmployeesByName("smith").value();
         assertEquals(1, result.size());
         assertEquals("Alice Smith", result.get(0).getEmployee_name());
     }
+
+    @Test
+    void getAllEmployees_shouldServeRepeatedReadsFromCache() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenReturn(ok(List.of(employee(UUID.randomUUID().toString(), "Alice", 8000))));
+
+        employeeService.getAllEmployees();
+        employeeService.searchEmployeesByName("ali");
+        employeeService.getHighestSalary();
+        employeeService.getTop10HighestEarningNames();
+
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST));
+    }
+
+    @Test
+    void createAndDelete_shouldUpdateCachedListWithoutRefetching() {
+        String existingId = UUID.randomUUID().toString();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenReturn(ok(List.of(employee(existingId, "Alice", 8000))));
+        employeeService.getAllEmployees();
+
+        String createdId = UUID.randomUUID().toString();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(EMPLOYEE)))
+                .thenReturn(ok(employee(createdId, "Carol", 9500)));
+        employeeService.createEmployee(new EmployeeInput("Carol", 9500, 25, "Dev"));
+
+        assertEquals(9500, employeeService.getHighestSalary().value());
+        assertEquals("Carol", employeeService.getEmployeeById(createdId).getEmployee_name());
+
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.DELETE), isNull(), eq(EMPLOYEE)))
+                .thenReturn(ok(employee(createdId, "Carol", 9500)));
+        assertEquals("Carol", employeeService.deleteEmployee(createdId));
+
+        assertEquals(8000, employeeService.getHighestSalary().value());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST));
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE));
+    }
+
+    @Test
+    void getAllEmployees_shouldRetryAfterTooManyRequests() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenThrow(tooManyRequests(HttpHeaders.EMPTY))
+                .thenReturn(ok(List.of(employee(UUID.randomUUID().toString(), "Alice", 8000))));
+
+        List<Employee> employees = employeeService.getAllEmployees().value();
+
+        assertEquals(1, employees.size());
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST));
+    }
+
+    @Test
+    void getAllEmployees_shouldFailFastWhenRetryAfterExceedsMaxWait() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "60");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenThrow(tooManyRequests(headers));
+
+        UpstreamRateLimitedException e =
+                assertThrows(UpstreamRateLimitedException.class, () -> employeeService.getAllEmployees());
+
+        assertTrue(e.getRetryAfter().getSeconds() > 50);
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST));
+    }
+
+    @Test
+    void getAllEmployees_shouldWalkPagesWhenPageSizeIsSet() {
+        employeeService = service(
+                2, new AdaptiveRateLimiter(100, 1, 1000, 100, 1, 0.5, Duration.ofMillis(10), Duration.ofMillis(500)));
+        when(restTemplate.exchange(endsWith("?limit=2"), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenReturn(page(
+                        List.of(
+                                employee(UUID.randomUUID().toString(), "Alice", 8000),
+                                employee(UUID.randomUUID().toString(), "Bob", 9000)),
+                        "1"));
+        when(restTemplate.exchange(endsWith("?limit=2&cursor=1"), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST)))
+                .thenReturn(page(List.of(employee(UUID.randomUUID().toString(), "Carol", 7000)), null));
+
+        List<Employee> employees = employeeService.getAllEmployees().value();
+
+        assertEquals(
+                List.of("Alice", "Bob", "Carol"),
+                employees.stream().map(Employee::getEmployee_name).toList());
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST));
+    }
+
+    @Test
+    void getEmployeeById_shouldFailFastOnceTheCircuitOpens() {
+        String uuid = UUID.randomUUID().toString();
+        when(restTemplate.exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ResourceAccessException.class, () -> employeeService.getEmployeeById(uuid));
+        }
+        assertThrows(UpstreamUnavailableException.class, () -> employeeService.getEmployeeById(uuid));
+
+        verify(restTemplate, times(5)).exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE));
+    }
+
+    @Test
+    void getEmployeeById_shouldNotCountNotFoundAgainstTheCircuit() {
+        String uuid = UUID.randomUUID().toString();
+        when(restTemplate.exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE)))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.NOT_FOUND,
+                        "404 Not Found",
+                        HttpHeaders.EMPTY,
+                        "".getBytes(StandardCharsets.UTF_8),
+                        StandardCharsets.UTF_8));
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(uuid));
+        }
+    }
+
+    @Test
+    void getEmployeeById_shouldCountA429AgainstTheCircuitWhenTheRateLimiterTurnsDownTheRetry() {
+        // The Retry-After pauses the rate limiter for longer than its maximum wait, so the retry never goes out.
+        employeeService = service(
+                0,
+                new AdaptiveRateLimiter(100, 1, 1000, 100, 1, 0.5, Duration.ofMillis(10), Duration.ofMillis(500)),
+                new CircuitBreaker(1, Duration.ofSeconds(10), 1));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "60");
+        String uuid = UUID.randomUUID().toString();
+        when(restTemplate.exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE)))
+                .thenThrow(tooManyRequests(headers));
+
+        assertThrows(UpstreamRateLimitedException.class, () -> employeeService.getEmployeeById(uuid));
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertThrows(UpstreamUnavailableException.class, () -> employeeService.getEmployeeById(uuid));
+        verify(restTemplate, times(1)).exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE));
+    }
+
+    @Test
+    void getEmployeeById_shouldNotCountLocalRateLimitAgainstTheCircuit() {
+        // One call a second and no wait for a turn: every call after the first is turned down before it goes out.
+        employeeService = service(0, new AdaptiveRateLimiter(1, 1, 1, 1, 0, 0.5, Duration.ofMillis(10), Duration.ZERO));
+        String uuid = UUID.randomUUID().toString();
+        when(restTemplate.exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE)))
+                .thenReturn(ok(employee(uuid, "Bob", 9000)));
+
+        employeeService.getEmployeeById(uuid);
+        for (int i = 0; i < 10; i++) {
+            assertThrows(UpstreamRateLimitedException.class, () -> employeeService.getEmployeeById(uuid));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+        verify(restTemplate, times(1)).exchange(contains(uuid), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE));
+    }
+
+    @Test
+    void createEmployees_shouldRequeueItemsTheRateLimiterTurnsAway() {
+        // One call every 50ms and no wait for a turn: two of the three items are turned away at first.
+        employeeService =
+                service(0, new AdaptiveRateLimiter(20, 20, 20, 1, 0, 0.5, Duration.ofMillis(10), Duration.ZERO));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(EMPLOYEE)))
+                .thenReturn(ok(employee(UUID.randomUUID().toString(), "Bob", 9000)));
+
+        BulkResult<Employee> result = employeeService.createEmployees(List.of(
+                new EmployeeInput("Bob", 9000, 30, "Engineer"),
+                new EmployeeInput("Bob", 9000, 30, "Engineer"),
+                new EmployeeInput("Bob", 9000, 30, "Engineer")));
+
+        assertEquals(3, result.succeeded());
+        verify(restTemplate, times(3)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(EMPLOYEE));
+    }
+
+    private EmployeeService service(int pageSize, AdaptiveRateLimiter rateLimiter) {
+        return service(pageSize, rateLimiter, new CircuitBreaker(5, Duration.ofSeconds(10), 1));
+    }
+
+    private EmployeeService service(int pageSize, AdaptiveRateLimiter rateLimiter, CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return new EmployeeService(
+                restTemplate,
+                new EmployeeCache(Duration.ofMinutes(1), Duration.ofSeconds(10), Clock.systemUTC()),
+                new SingleFlight(),
+                rateLimiter,
+                pageSize,
+                EmployeeService.DEFAULT_BASE_URL,
+                new SimpleMeterRegistry(),
+                EmployeeService.DEFAULT_BULK_CONCURRENCY,
+                circuitBreaker,
+                new Bulkhead(20, Duration.ofMillis(500)));
+    }
+
+    private static <T> ResponseEntity<ApiResponse<T>> ok(T data) {
+        return new ResponseEntity<>(new ApiResponse<>(data, "Successfully processed request.", null), HttpStatus.OK);
+    }
+
+    private static ResponseEntity<ApiResponse<List<Employee>>> page(List<Employee> employees, String nextCursor) {
+        return new ResponseEntity<>(
+                new ApiResponse<>(employees, "Successfully processed request.", null, nextCursor), HttpStatus.OK);
+    }
+
+    private static HttpClientErrorException tooManyRequests(HttpHeaders headers) {
+        return HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "429 Too Many Requests",
+                headers,
+                "".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+    }
+
+    private static Employee employee(String id, String name, int salary) {
+        return employee(id, name, salary, 30, "Engineer", name.toLowerCase() + "@example.com");
+    }
+
+    private static Employee employee(String id, String name, int salary, int age, String title, String email) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        employee.setEmployee_age(age);
+        employee.setEmployee_title(title);
+        employee.setEmployee_email(email);
+        return employee;
+    }
 }
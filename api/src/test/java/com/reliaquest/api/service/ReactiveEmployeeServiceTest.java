@@ -0,0 +1,139 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import com.reliaquest.api.model.BulkResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.support.MockEmployeeApiStub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/** {@link ReactiveEmployeeService} over real HTTP against {@link MockEmployeeApiStub}. */
+class ReactiveEmployeeServiceTest {
+
+    private MockEmployeeApiStub stub;
+
+    @BeforeEach
+    void setUp() {
+        stub = MockEmployeeApiStub.start().seed(50, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void getAllEmployees_shouldWalkEveryPage() {
+        List<Employee> employees = service(7).getAllEmployees().collectList().block();
+
+        assertEquals(
+                stub.employees().stream().map(Employee::getId).toList(),
+                employees.stream().map(Employee::getId).toList());
+        assertEquals(8, stub.requests());
+    }
+
+    @Test
+    void getAllEmployees_shouldRetryThroughA429Burst() {
+        stub.throttle(3, 2, Duration.ZERO);
+
+        List<Employee> employees = service(0).getAllEmployees().collectList().block();
+
+        assertEquals(50, employees.size());
+        assertEquals(2, stub.throttledRequests());
+        assertEquals(3, stub.requests());
+    }
+
+    @Test
+    void getAllEmployees_shouldGiveUpAfterThreeThrottledAttempts() {
+        stub.throttle(1, 1, Duration.ZERO);
+
+        assertThrows(UpstreamRateLimitedException.class, () -> service(0)
+                .getAllEmployees()
+                .collectList()
+                .block());
+        assertEquals(3, stub.requests());
+    }
+
+    @Test
+    void reads_shouldShareOneSnapshotUntilALocalWrite() {
+        ReactiveEmployeeService employeeService = service(0);
+        Employee richest = stub.employees().stream()
+                .max(Comparator.comparingInt(Employee::getEmployee_salary))
+                .orElseThrow();
+
+        assertEquals(richest.getEmployee_salary(), employeeService.getHighestSalary().block());
+        assertEquals(richest.getEmployee_name(), employeeService.getTop10HighestEarningNames().block().get(0));
+        assertEquals(
+                richest.getEmployee_name(),
+                employeeService.getEmployeeById(richest.getId()).block().getEmployee_name());
+        assertEquals(1, stub.requests());
+
+        Employee created = employeeService
+                .createEmployee(new EmployeeInput("Alice", 8000, 30, "Engineer"))
+                .block();
+        List<Employee> employees = employeeService.getAllEmployees().collectList().block();
+
+        assertEquals(51, employees.size());
+        assertTrue(employees.stream().anyMatch(employee -> employee.getId().equals(created.getId())));
+        assertEquals(3, stub.requests());
+    }
+
+    @Test
+    void deleteEmployee_shouldTakeOneRequestAndReportUnknownIds() {
+        ReactiveEmployeeService employeeService = service(0);
+        Employee employee = stub.employees().get(0);
+
+        assertEquals(employee.getEmployee_name(), employeeService.deleteEmployee(employee.getId()).block());
+        assertEquals(1, stub.requests());
+        assertThrows(
+                EmployeeNotFoundException.class,
+                () -> employeeService.deleteEmployee(employee.getId()).block());
+    }
+
+    @Test
+    void createEmployees_shouldReportEveryItemInOrder() {
+        List<EmployeeInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            inputs.add(new EmployeeInput("Bulk " + i, 8000, 30, "Engineer"));
+        }
+        inputs.add(null);
+
+        BulkResult<Employee> result = service(0).createEmployees(inputs).block();
+
+        assertEquals(20, result.succeeded());
+        assertEquals(1, result.failed());
+        assertEquals("Bulk 7", result.items().get(7).data().getEmployee_name());
+        assertEquals(400, result.items().get(20).status());
+        assertEquals(70, stub.employees().size());
+    }
+
+    @Test
+    void getEmployeeById_shouldReportUnknownIds() {
+        String id = UUID.randomUUID().toString();
+
+        assertThrows(EmployeeNotFoundException.class, () -> service(0).getEmployeeById(id).block());
+    }
+
+    private ReactiveEmployeeService service(int pageSize) {
+        return new ReactiveEmployeeService(
+                WebClient.builder().baseUrl(stub.baseUrl()).build(),
+                new AdaptiveRateLimiter(100, 1, 1000, 100, 1, 0.5, Duration.ofMillis(10), Duration.ofSeconds(2)),
+                new SimpleMeterRegistry(),
+                Duration.ofMinutes(1),
+                pageSize,
+                4);
+    }
+}
@@ -0,0 +1,186 @@
+package com.reliaquest.api.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop load generator: {@code threads} workers each call a randomly picked {@link Endpoint}, weighted by
+ * {@link Endpoint#weight()}, back to back for the given duration. Calls during the warm-up are made but not recorded.
+ *
+ * <p>Every worker records latencies into its own arrays, which are only merged once the run is over, so measuring adds
+ * no contention between workers. Workers are virtual threads, so thousands of concurrent clients cost the driver
+ * little.
+ */
+public class LoadDriver {
+
+    private final int threads;
+    private final Duration warmup;
+    private final Duration duration;
+
+    public LoadDriver(int threads, Duration warmup, Duration duration) {
+        this.threads = threads;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public Report run(List<Endpoint> endpoints) throws Exception {
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Recorder[]>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(workers.submit(() -> work(endpoints, totalWeight, recordFrom, end)));
+            }
+            Recorder[] merged = newRecorders(endpoints.size());
+            for (Future<Recorder[]> future : futures) {
+                Recorder[] recorders = future.get();
+                for (int e = 0; e < merged.length; e++) {
+                    merged[e].addAll(recorders[e]);
+                }
+            }
+            Map<String, EndpointStats> stats = new LinkedHashMap<>();
+            for (int e = 0; e < merged.length; e++) {
+                stats.put(endpoints.get(e).name(), merged[e].stats(duration));
+            }
+            return new Report(threads, duration, stats);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static Recorder[] work(List<Endpoint> endpoints, int totalWeight, long recordFrom, long end) {
+        Recorder[] recorders = newRecorders(endpoints.size());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+            int index = pick(endpoints, random.nextInt(totalWeight));
+            int status;
+            try {
+                status = endpoints.get(index).call().call();
+            } catch (Exception e) {
+                status = 0;
+            }
+            long latency = System.nanoTime() - now;
+            if (now >= recordFrom && status != Endpoint.SKIPPED) {
+                recorders[index].record(latency, status);
+            }
+        }
+        return recorders;
+    }
+
+    private static int pick(List<Endpoint> endpoints, int ticket) {
+        for (int i = 0; i < endpoints.size(); i++) {
+            ticket -= endpoints.get(i).weight();
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Endpoint weights changed during the run");
+    }
+
+    private static Recorder[] newRecorders(int count) {
+        Recorder[] recorders = new Recorder[count];
+        Arrays.setAll(recorders, ignored -> new Recorder());
+        return recorders;
+    }
+
+    /**
+     * One endpoint of the mix. {@code call} performs a single request and returns its HTTP status, 0 for a request
+     * that failed without one, or {@link #SKIPPED} when it had nothing to do and should not be recorded.
+     */
+    public record Endpoint(String name, int weight, Callable<Integer> call) {
+
+        public static final int SKIPPED = -1;
+    }
+
+    public record EndpointStats(
+            long requests, double throughput, Map<Integer, Long> statuses, long p50, long p99, long p999, long max) {}
+
+    public record Report(int threads, Duration duration, Map<String, EndpointStats> endpoints) {
+
+        /** A table of throughput, latency percentiles in milliseconds and response statuses per endpoint. */
+        public String format() {
+            StringBuilder table = new StringBuilder(String.format(
+                    Locale.ROOT,
+                    "%d threads for %ss%n%-14s %9s %8s %8s %8s %8s   %s%n",
+                    threads,
+                    duration.toSeconds(),
+                    "endpoint",
+                    "req/s",
+                    "p50 ms",
+                    "p99 ms",
+                    "p999 ms",
+                    "max ms",
+                    "statuses"));
+            endpoints.forEach((name, stats) -> table.append(String.format(
+                    Locale.ROOT,
+                    "%-14s %9.1f %8.2f %8.2f %8.2f %8.2f   %s%n",
+                    name,
+                    stats.throughput(),
+                    stats.p50() / 1e6,
+                    stats.p99() / 1e6,
+                    stats.p999() / 1e6,
+                    stats.max() / 1e6,
+                    stats.statuses())));
+            return table.toString();
+        }
+    }
+
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        void record(long latency, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        void addAll(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            other.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+        }
+
+        EndpointStats stats(Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new EndpointStats(
+                    count,
+                    count / (duration.toNanos() / 1e9),
+                    statuses,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 0.999),
+                    count == 0 ? 0 : sorted[count - 1]);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+        }
+    }
+}
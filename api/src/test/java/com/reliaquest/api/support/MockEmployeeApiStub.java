@@ -0,0 +1,356 @@
+package com.reliaquest.api.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the mock server's {@code /api/v1/employee} contract, listening on a random local port, so
+ * tests can exercise the api over real HTTP.
+ *
+ * <p>Faults can be scripted at any time, also while requests are in flight: a {@link Latency} distribution applied to
+ * every response, bursts of 429s carrying {@code Retry-After}, and a random rate of 500s. Throttled and failed
+ * requests are answered after the latency like any other, just as a slow server would reject them.
+ *
+ * <p>Like the mock server, the full list carries an {@code ETag} that changes on every write and is answered with a
+ * {@code 304 Not Modified} while {@code If-None-Match} still matches it.
+ */
+public class MockEmployeeApiStub implements AutoCloseable {
+
+    public static final String PATH = "/api/v1/employee";
+
+    private static final String HANDLED = "Successfully processed request.";
+    // Room for hundreds of clients connecting at once; the default of 50 drops connections under load tests.
+    private static final int BACKLOG = 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // Guarded by this.
+    private final Map<String, Employee> employees = new LinkedHashMap<>();
+    private long version;
+
+    private volatile Latency latency = Latency.none();
+    private volatile double serverErrorRate;
+    private volatile Throttling throttling;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+
+    private MockEmployeeApiStub(HttpServer server) {
+        this.server = server;
+        // Latency is simulated by sleeping, so every in-flight request needs its own thread. Virtual ones keep
+        // thousands of requests in flight from showing up as platform threads in the tests that measure them.
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("mock-employee-api-stub-", 0).factory());
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+    }
+
+    public static MockEmployeeApiStub start() {
+        // Without TCP_NODELAY small responses wait on delayed ACKs, adding ~40ms to every request.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), BACKLOG);
+            MockEmployeeApiStub stub = new MockEmployeeApiStub(server);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start the mock employee API stub", e);
+        }
+    }
+
+    /** The employee endpoint, to use as {@code employee.upstream.base-url}. */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + PATH;
+    }
+
+    /** Adds {@code count} employees generated from {@code seed}. */
+    public MockEmployeeApiStub seed(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < count; i++) {
+            Employee employee = new Employee();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            employee.setEmployee_name("Employee " + Long.toString(random.nextLong(1L << 40), 36) + " " + i);
+            employee.setEmployee_salary(random.nextInt(30_000, 500_000));
+            employee.setEmployee_age(random.nextInt(16, 76));
+            employee.setEmployee_title("Title " + random.nextInt(200));
+            employee.setEmployee_email("employee" + i + "@company.com");
+            add(employee);
+        }
+        return this;
+    }
+
+    public synchronized MockEmployeeApiStub add(Employee employee) {
+        employees.put(employee.getId(), employee);
+        version++;
+        return this;
+    }
+
+    public synchronized List<Employee> employees() {
+        return List.copyOf(employees.values());
+    }
+
+    public MockEmployeeApiStub latency(Latency latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /** Answers a fraction {@code rate} of requests, picked at random, with a 500. */
+    public MockEmployeeApiStub serverErrorRate(double rate) {
+        this.serverErrorRate = rate;
+        return this;
+    }
+
+    /**
+     * Out of every {@code period} requests, starting with the next one, answers the first {@code burst} with a 429 and
+     * {@code Retry-After}. A burst as long as the period throttles every request.
+     */
+    public MockEmployeeApiStub throttle(int period, int burst, Duration retryAfter) {
+        if (period < 1 || burst < 0 || burst > period) {
+            throw new IllegalArgumentException("burst must be between 0 and period");
+        }
+        this.throttling = new Throttling(period, burst, retryAfter, requests.get());
+        return this;
+    }
+
+    /** Removes every scripted fault. */
+    public MockEmployeeApiStub healthy() {
+        latency = Latency.none();
+        serverErrorRate = 0;
+        throttling = null;
+        return this;
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long throttledRequests() {
+        return throttled.get();
+    }
+
+    public long failedRequests() {
+        return failed.get();
+    }
+
+    public long notModifiedResponses() {
+        return notModified.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long number = requests.incrementAndGet();
+            sleep(latency.next());
+
+            Throttling currentThrottling = throttling;
+            if (currentThrottling != null && currentThrottling.throttles(number)) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders()
+                        .set("Retry-After", String.valueOf(currentThrottling.retryAfter().toSeconds()));
+                send(exchange, 429, null);
+                return;
+            }
+            if (serverErrorRate > 0 && ThreadLocalRandom.current().nextDouble() < serverErrorRate) {
+                failed.incrementAndGet();
+                send(exchange, 500, Map.of("status", "Failed to process request.", "error", "Injected failure"));
+                return;
+            }
+            route(exchange);
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring(PATH.length()).replaceFirst("^/", "");
+        switch (exchange.getRequestMethod().toUpperCase(Locale.ROOT) + (id.isEmpty() ? "" : " id")) {
+            case "GET" -> list(exchange);
+            case "GET id" -> {
+                Employee employee;
+                synchronized (this) {
+                    employee = employees.get(id);
+                }
+                send(exchange, employee == null ? 404 : 200, handled(employee, null));
+            }
+            case "POST" -> send(exchange, 200, handled(create(read(exchange)), null));
+            case "DELETE id" -> {
+                Employee employee;
+                synchronized (this) {
+                    employee = employees.remove(id);
+                    version += employee == null ? 0 : 1;
+                }
+                send(exchange, employee == null ? 404 : 200, handled(employee, null));
+            }
+            case "DELETE" -> send(exchange, 200, handled(deleteByName(read(exchange).path("name").asText()), null));
+            default -> send(exchange, 405, null);
+        }
+    }
+
+    private void list(HttpExchange exchange) throws IOException {
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        List<Employee> all;
+        String eTag;
+        synchronized (this) {
+            all = List.copyOf(employees.values());
+            eTag = "\"" + version + "\"";
+        }
+        if (!query.containsKey("limit") && !query.containsKey("cursor")) {
+            exchange.getResponseHeaders().set("ETag", eTag);
+            if (eTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                send(exchange, 304, null);
+                return;
+            }
+            send(exchange, 200, handled(all, null));
+            return;
+        }
+        // Cursors are plain offsets here, which is enough for a stand-in whose tests do not page while writing.
+        int from = Integer.parseInt(query.getOrDefault("cursor", "-1")) + 1;
+        int limit = Integer.parseInt(query.getOrDefault("limit", "100"));
+        int to = Math.min(all.size(), from + limit);
+        String nextCursor = to < all.size() ? String.valueOf(to - 1) : null;
+        send(exchange, 200, handled(all.subList(Math.min(from, to), to), nextCursor));
+    }
+
+    private Employee create(JsonNode input) {
+        Employee employee = new Employee();
+        employee.setId(UUID.randomUUID().toString());
+        employee.setEmployee_name(input.path("name").asText());
+        employee.setEmployee_salary(input.path("salary").asInt());
+        employee.setEmployee_age(input.path("age").asInt());
+        employee.setEmployee_title(input.path("title").asText());
+        employee.setEmployee_email(employee.getId() + "@company.com");
+        add(employee);
+        return employee;
+    }
+
+    private synchronized boolean deleteByName(String name) {
+        Iterator<Employee> iterator = employees.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getEmployee_name().equalsIgnoreCase(name)) {
+                iterator.remove();
+                version++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private JsonNode read(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return objectMapper.readTree(body);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static Map<String, Object> handled(Object data, String nextCursor) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", data);
+        response.put("status", HANDLED);
+        if (nextCursor != null) {
+            response.put("next_cursor", nextCursor);
+        }
+        return response;
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    query.put(
+                            pair.substring(0, equals),
+                            URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return query;
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Throttling(int period, int burst, Duration retryAfter, long scriptedAt) {
+
+        boolean throttles(long requestNumber) {
+            return requestNumber > scriptedAt && (requestNumber - scriptedAt - 1) % period < burst;
+        }
+    }
+
+    /** Delay before each response. */
+    @FunctionalInterface
+    public interface Latency {
+
+        Duration next();
+
+        static Latency none() {
+            return () -> Duration.ZERO;
+        }
+
+        static Latency fixed(Duration delay) {
+            return () -> delay;
+        }
+
+        static Latency uniform(Duration min, Duration max) {
+            return () -> Duration.ofNanos(ThreadLocalRandom.current().nextLong(min.toNanos(), max.toNanos() + 1));
+        }
+
+        /**
+         * Log-normally distributed around {@code median}, the usual shape of service latency: most responses are close
+         * to the median, with a long tail. A {@code sigma} of 0.5 puts the 99th percentile at about 3.2x the median.
+         */
+        static Latency logNormal(Duration median, double sigma) {
+            return () -> Duration.ofNanos(
+                    (long) (median.toNanos() * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian())));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+
+/** Reproducible employee datasets shared by the benchmarks: the same seed gives the same employees on every run. */
+final class Datasets {
+
+    static final long SEED = 42;
+
+    private Datasets() {}
+
+    static List<MockEmployee> mockEmployees(int size) {
+        return new MockEmployeeGenerator(Locale.US, SEED).generate(size);
+    }
+
+    /** The employees the api module would have decoded from {@link #mockEmployees(int)}. */
+    static List<Employee> employees(int size) {
+        return mockEmployees(size).stream().map(Datasets::toEmployee).toList();
+    }
+
+    private static Employee toEmployee(MockEmployee mockEmployee) {
+        Employee employee = new Employee();
+        employee.setId(mockEmployee.getId().toString());
+        employee.setEmployee_name(mockEmployee.getName());
+        employee.setEmployee_salary(mockEmployee.getSalary());
+        employee.setEmployee_age(mockEmployee.getAge());
+        employee.setEmployee_title(mockEmployee.getTitle());
+        employee.setEmployee_email(mockEmployee.getEmail());
+        return employee;
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The api's read paths over a warm {@link EmployeeCache}: name search, highest salary and the top 10 earners. The
+ * cache never expires during a run, so only the in-memory indexes are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeCacheBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private EmployeeCache cache;
+    private List<Employee> employees;
+    private String fragment;
+
+    @Setup
+    public void setUp() {
+        employees = Datasets.employees(size);
+        cache = new EmployeeCache(Duration.ofDays(1), Duration.ofHours(1), Clock.systemUTC());
+        cache.getAll(this::load);
+        // Three letters from the middle of a real name: selective, but with more than one match.
+        String name = employees.get(size / 2).getEmployee_name().toLowerCase(Locale.ROOT);
+        fragment = name.substring(1, 4);
+    }
+
+    @TearDown
+    public void tearDown() {
+        cache.shutdown();
+    }
+
+    @Benchmark
+    public List<Employee> search() {
+        return cache.search(fragment, this::load).value();
+    }
+
+    @Benchmark
+    public int highestSalary() {
+        return cache.highestSalary(this::load).value();
+    }
+
+    @Benchmark
+    public List<Employee> top10() {
+        return cache.topEarners(10, this::load).value();
+    }
+
+    private List<Employee> load() {
+        return employees;
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Both ends of {@code GET /api/v1/employee}: the server serializing {@code Response<List<MockEmployee>>} and the api
+ * binding the same bytes into {@code ApiResponse<List<Employee>>}, which replaced {@code mapToEmployee}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeJsonBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST = new TypeReference<>() {};
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Response<List<MockEmployee>> response;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        response = Response.handledWith(Datasets.mockEmployees(size));
+        payload = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> decodeResponse() throws Exception {
+        return objectMapper.readValue(payload, EMPLOYEE_LIST);
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStorage;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link MockEmployeeService} lookups and deletes against both storage modes. The store is rebuilt every iteration, as
+ * the columnar store only reclaims deleted rows on a rebuild.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"HEAP", "COLUMNAR"})
+    public MockEmployeeStorage storage;
+
+    private List<MockEmployee> employees;
+    private MockEmployeeStore store;
+    private MockEmployeeService service;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        employees = Datasets.mockEmployees(size);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        store = storage.create(employees, 0);
+        service = new MockEmployeeService(new MockEmployeeGenerator(Locale.US, Datasets.SEED), store);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(randomEmployee().getId());
+    }
+
+    /**
+     * Deletes the first employee with a random employee's name and puts it back, so the dataset keeps its size. Looking
+     * up the employee to restore adds one name lookup to the measured delete.
+     */
+    @Benchmark
+    public boolean deleteAndRestore() {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(randomEmployee().getName());
+        MockEmployee deleted = store.findFirstByName(input.getName()).orElseThrow();
+        boolean removed = service.delete(input);
+        store.add(deleted);
+        return removed;
+    }
+
+    private MockEmployee randomEmployee() {
+        return employees.get(ThreadLocalRandom.current().nextInt(size));
+    }
+}
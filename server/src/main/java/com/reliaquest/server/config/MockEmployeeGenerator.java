@@ -0,0 +1,177 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.NonNull;
+import net.datafaker.Faker;
+
+/**
+ * Generates mock employees reproducibly: the same seed always yields the same dataset, however many cores generate it.
+ *
+ * <p>Datafaker is only used up front, seeded, to sample pools of first names, last names and job titles. Employees are
+ * then assembled from those pools in fixed-size chunks. Every chunk draws from its own random stream, split from the
+ * seed in chunk order before any work starts, so chunks can be generated in parallel without changing the result.
+ *
+ * <p>Emails are derived from the employee's name ({@code jsmith@company.com}) and made unique with a numeric suffix
+ * ({@code jsmith2@company.com}). Suffixes are handed out in dataset order, and later employees created through the API
+ * continue from there, so no two employees ever share an email.
+ */
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 8192;
+    private static final int NAME_SAMPLES = 4096;
+    private static final int TITLE_SAMPLES = 2048;
+
+    @Getter
+    private final long seed;
+
+    private final List<String> firstNames;
+    private final List<String> lastNames;
+    private final List<String> titles;
+
+    // Email local part fragments for each pooled name, so generation never has to normalize a name.
+    private final String[] firstInitials;
+    private final String[] lastNameLetters;
+
+    // Highest suffix handed out per email local part; local parts are letters only, so "jsmith2" never collides.
+    private final Map<String, Integer> emailSuffixes = new ConcurrentHashMap<>();
+
+    public MockEmployeeGenerator(@NonNull Locale locale, long seed) {
+        this.seed = seed;
+        final var faker = new Faker(locale, new Random(seed));
+        this.firstNames = sample(() -> faker.name().firstName(), NAME_SAMPLES);
+        this.lastNames = sample(() -> faker.name().lastName(), NAME_SAMPLES);
+        this.titles = sample(() -> faker.job().title(), TITLE_SAMPLES);
+        this.firstInitials = firstNames.stream()
+                .map(MockEmployeeGenerator::letters)
+                .map(letters -> letters.isEmpty() ? "" : letters.substring(0, 1))
+                .toArray(String[]::new);
+        this.lastNameLetters =
+                lastNames.stream().map(MockEmployeeGenerator::letters).toArray(String[]::new);
+    }
+
+    /** Generates {@code count} employees in parallel; the result depends only on the seed and {@code count}. */
+    public List<MockEmployee> generate(int count) {
+        final var root = new SplittableRandom(seed);
+        final List<SplittableRandom> streams = IntStream.range(0, (count + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                .mapToObj(ignored -> root.split())
+                .toList();
+        final List<List<Generated>> generated = IntStream.range(0, streams.size())
+                .parallel()
+                .mapToObj(chunk ->
+                        generateChunk(streams.get(chunk), Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .toList();
+
+        // Suffixes depend on order, so emails are assigned in a single sequential pass.
+        final List<MockEmployee> employees = new ArrayList<>(count);
+        for (List<Generated> chunk : generated) {
+            for (Generated next : chunk) {
+                next.employee().setEmail(email(next.localPart()));
+                employees.add(next.employee());
+            }
+        }
+        return employees;
+    }
+
+    /** A unique email for a new employee called {@code name}. */
+    public String emailFor(@NonNull String name) {
+        final String[] words = name.trim().split("\\s+");
+        final String first = letters(words[0]);
+        final var localPart = new StringBuilder(words.length > 1 && !first.isEmpty() ? first.substring(0, 1) : first);
+        for (int i = 1; i < words.length; i++) {
+            localPart.append(letters(words[i]));
+        }
+        return email(localPart.toString());
+    }
+
+    /**
+     * Records an email that is already taken, such as one restored from disk, so {@link #emailFor} never hands it out
+     * again.
+     */
+    public void registerEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        final String localPart = email.substring(0, Math.max(email.indexOf('@'), 0));
+        int digits = localPart.length();
+        while (digits > 0 && Character.isDigit(localPart.charAt(digits - 1))) {
+            digits--;
+        }
+        final String base = localPart.substring(0, digits);
+        final int suffix = digits == localPart.length() ? 1 : parseSuffix(localPart.substring(digits));
+        emailSuffixes.merge(base.isEmpty() ? "employee" : base, suffix, Math::max);
+    }
+
+    public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+        return MockEmployee.from(emailFor(input.getName()), input);
+    }
+
+    private String email(String localPart) {
+        final String base = localPart.isEmpty() ? "employee" : localPart;
+        final int suffix = emailSuffixes.merge(base, 1, Integer::sum);
+        return ServerConfiguration.EMAIL_TEMPLATE.formatted(suffix == 1 ? base : base + suffix);
+    }
+
+    private List<Generated> generateChunk(SplittableRandom random, int size) {
+        final List<Generated> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int first = random.nextInt(firstNames.size());
+            final int last = random.nextInt(lastNames.size());
+            final var employee = MockEmployee.builder()
+                    .id(new UUID(
+                            (random.nextLong() & ~0xF000L) | 0x4000L,
+                            (random.nextLong() & ~0xC000000000000000L) | 0x8000000000000000L))
+                    .name(firstNames.get(first) + " " + lastNames.get(last))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(titles.get(random.nextInt(titles.size())))
+                    .build();
+            employees.add(new Generated(employee, firstInitials[first] + lastNameLetters[last]));
+        }
+        return employees;
+    }
+
+    private static int parseSuffix(String digits) {
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE - 1; // Absurdly long suffix; keep new ones clear of it.
+        }
+    }
+
+    /** Lower-case ASCII letters of {@code text}, with accents stripped ("Zoë O'Brien" becomes "zoeobrien"). */
+    private static String letters(String text) {
+        final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        final var letters = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            final char c = Character.toLowerCase(decomposed.charAt(i));
+            if (c >= 'a' && c <= 'z') {
+                letters.append(c);
+            }
+        }
+        return letters.toString();
+    }
+
+    private record Generated(MockEmployee employee, String localPart) {}
+
+    private static List<String> sample(Supplier<String> source, int samples) {
+        final var values = new LinkedHashSet<String>();
+        for (int i = 0; i < samples; i++) {
+            values.add(source.get());
+        }
+        return List.copyOf(values);
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.HttpMethod;
+
+/**
+ * {@code mock.rate-limit} settings. {@code endpoints} are tried in order and the first one matching a request's method
+ * and path limits it; every other request falls back to {@code limit} per {@code window}. Left unset, those two are
+ * picked at random on startup, as the mock server has always done.
+ *
+ * @param clientHeader header identifying a client, such as {@code X-Client-Id}; the remote address when unset
+ * @param notModifiedCost the share of a permit a request answered with {@code 304 Not Modified} costs, from 0 to 1
+ */
+@ConfigurationProperties("mock.rate-limit")
+public record RequestLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        String clientHeader,
+        Integer limit,
+        Duration window,
+        @DefaultValue List<Endpoint> endpoints,
+        @DefaultValue("0.25") double notModifiedCost) {
+
+    /**
+     * @param method the request method to limit, or any method when unset
+     * @param path a Spring path pattern, such as {@code /api/v1/employee/**}
+     */
+    public record Endpoint(HttpMethod method, String path, int limit, Duration window) {}
+}
@@ -1,59 +1,181 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.store.ColumnarMockEmployeeStore;
+import com.reliaquest.server.store.FsyncPolicy;
+import com.reliaquest.server.store.MockEmployeePersistence;
+import com.reliaquest.server.store.MockEmployeeStorage;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.MockEmployeeChangeFeed;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import com.reliaquest.server.web.SlidingWindowRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RequestLimitProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private static final int MAX_LOGGED_EMPLOYEES = 1000;
+
+    private final RequestLimitProperties requestLimitProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
     @Bean
-    public Faker faker() {
-        return new Faker(Locale.getDefault());
+    public MockEmployeeGenerator mockEmployeeGenerator(
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.locale:en_US}") Locale locale) {
+        final long generatorSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        log.info("Mock employee seed: {} (set mock.employees.seed to reproduce this dataset)", generatorSeed);
+        // A fixed locale, not the JVM default, so a seed yields the same names on every machine.
+        return new MockEmployeeGenerator(locale, generatorSeed);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public MockEmployeePersistence mockEmployeePersistence(
+            @Value("${mock.persistence.directory:data}") Path directory,
+            @Value("${mock.persistence.fsync:INTERVAL}") FsyncPolicy fsync,
+            @Value("${mock.persistence.fsync-interval:1s}") Duration fsyncInterval,
+            @Value("${mock.persistence.snapshot-interval:5m}") Duration snapshotInterval) {
+        return new MockEmployeePersistence(directory, fsync, fsyncInterval, snapshotInterval);
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. With persistence enabled it is restored from disk when
+     * possible and only generated on the first start.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            MockEmployeeGenerator generator,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.storage:HEAP}") MockEmployeeStorage storage,
+            ObjectProvider<MockEmployeePersistence> persistenceProvider) {
+        final var persistence = persistenceProvider.getIfAvailable();
+        final var recovered =
+                persistence == null ? Optional.<MockEmployeeStore.Snapshot>empty() : persistence.recover();
+        recovered.ifPresent(snapshot ->
+                snapshot.employees().forEach(mockEmployee -> generator.registerEmail(mockEmployee.getEmail())));
+        final var snapshot =
+                recovered.orElseGet(() -> new MockEmployeeStore.Snapshot(generate(generator, maxEmployees), 0));
+
+        final long started = System.nanoTime();
+        final var store = storage.create(snapshot.employees(), snapshot.version());
+        log.info(
+                "Stored {} mock employees in {} mode in {} ms{}",
+                store.size(),
+                storage,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                store instanceof ColumnarMockEmployeeStore columnar
+                        ? " (%d MB off-heap)".formatted(columnar.offHeapBytes() >> 20)
+                        : "");
+        if (persistence != null) {
+            persistence.attach(store);
+        }
+        return store;
+    }
+
+    @Bean(destroyMethod = "close")
+    public MockEmployeeChangeFeed mockEmployeeChangeFeed(
+            MockEmployeeStore store,
+            @Value("${mock.change-feed.retained:10000}") int retained,
+            @Value("${mock.change-feed.timeout:5m}") Duration timeout,
+            @Value("${mock.change-feed.heartbeat:15s}") Duration heartbeat) {
+        return new MockEmployeeChangeFeed(store, retained, timeout, heartbeat);
+    }
+
+    @Bean
+    public MeterBinder mockEmployeeStoreMetrics(MockEmployeeStore store) {
+        return registry -> {
+            Gauge.builder("mock.employees", store, MockEmployeeStore::size)
+                    .description("Employees in the mock employee store")
+                    .register(registry);
+            Gauge.builder("mock.employees.version", store, MockEmployeeStore::version)
+                    .description("Changes applied to the mock employee store")
+                    .register(registry);
+            if (store instanceof ColumnarMockEmployeeStore columnar) {
+                Gauge.builder("mock.employees.off-heap", columnar, ColumnarMockEmployeeStore::offHeapBytes)
+                        .description("Direct memory held by the columnar store")
+                        .baseUnit("bytes")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static List<MockEmployee> generate(MockEmployeeGenerator generator, int maxEmployees) {
+        final long started = System.nanoTime();
+        final var mockEmployees = generator.generate(maxEmployees);
+        log.info(
+                "Generated {} mock employees in {} ms",
+                mockEmployees.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        if (mockEmployees.size() <= MAX_LOGGED_EMPLOYEES) {
+            mockEmployees.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+        return mockEmployees;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (requestLimitProperties.enabled()) {
+            registry.addInterceptor(new RequestLimitInterceptor(
+                    requestLimitRules(),
+                    requestLimitProperties.clientHeader(),
+                    requestLimitProperties.notModifiedCost(),
+                    meterRegistry.getObject()));
+        }
+    }
+
+    private List<RequestLimitInterceptor.Rule> requestLimitRules() {
+        final var parser = PathPatternParser.defaultInstance;
+        final var rules = new ArrayList<RequestLimitInterceptor.Rule>();
+        requestLimitProperties.endpoints().forEach(endpoint -> {
+            rules.add(new RequestLimitInterceptor.Rule(
+                    endpoint.method(),
+                    parser.parse(endpoint.path()),
+                    new SlidingWindowRateLimiter(endpoint.limit(), endpoint.window())));
+            log.info(
+                    "Rate limiting {} {} to {} requests per {} per client",
+                    endpoint.method() == null ? "*" : endpoint.method(),
+                    endpoint.path(),
+                    endpoint.limit(),
+                    endpoint.window());
+        });
+
+        // Unless configured, the fallback limit stays a surprise for the client, but each run logs what it picked.
+        final int limit = requestLimitProperties.limit() != null
+                ? requestLimitProperties.limit()
+                : RandomGenerator.getDefault().nextInt(5, 10);
+        final var window = requestLimitProperties.window() != null
+                ? requestLimitProperties.window()
+                : Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+        rules.add(new RequestLimitInterceptor.Rule(
+                null, parser.parse("/**"), new SlidingWindowRateLimiter(limit, window)));
+        log.info("Rate limiting every other request to {} requests per {} per client", limit, window);
+        return rules;
     }
 }
@@ -3,21 +3,27 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeBatch;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -26,9 +32,41 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    /**
+     * Without {@code limit} or {@code cursor} this returns every employee, with an {@code ETag} that changes on every
+     * write; a request whose {@code If-None-Match} still matches is answered {@code 304 Not Modified} without reading
+     * the list. With either, it returns one page and a {@code next_cursor} to pass back for the following page; the
+     * last page has no {@code next_cursor}.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch) {
+        if (limit == null && cursor == null) {
+            final String current = mockEmployeeService.getMockEmployeesETag();
+            if (ifNoneMatch != null && (ifNoneMatch.contains(current) || ifNoneMatch.contains("*"))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+            final var snapshot = mockEmployeeService.getMockEmployeeSnapshot();
+            return ResponseEntity.ok()
+                    .eTag(mockEmployeeService.eTag(snapshot.version()))
+                    .body(Response.handledWith(snapshot.employees()));
+        }
+        final var page = mockEmployeeService.getMockEmployeePage(cursor, limit);
+        return ResponseEntity.ok(Response.handledWith(page.employees(), page.nextCursor()));
+    }
+
+    /**
+     * Streams employee changes as Server-Sent Events. A client resumes after the version tag of its last event, sent as
+     * {@code Last-Event-ID} or {@code after}, or after the list tagged with that {@code ETag}; without one, or once the
+     * server no longer holds every change since, the stream starts with a {@code SNAPSHOT} of every employee.
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getEmployeeChanges(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(name = "after", required = false) String after) {
+        return mockEmployeeService.subscribeToChanges(lastEventId != null ? lastEventId : after);
     }
 
     @GetMapping("/{id}")
@@ -44,8 +82,52 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /** Removes exactly the employee with this id and returns it, in a single lookup. */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /**
+     * Creates every employee in the body if all of them are valid, and none otherwise, answering 400 with each invalid
+     * item's errors. Counts as a single request against the rate limit.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<MockEmployeeBatch.Item>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        return batchResponse(mockEmployeeService.createAll(inputs));
+    }
+
+    /** Looks up every id in the body; an unknown one is reported in its own item. */
+    @PostMapping("/batch/lookup")
+    public ResponseEntity<Response<List<MockEmployeeBatch.Item>>> getEmployees(@RequestBody List<UUID> uuids) {
+        return batchResponse(mockEmployeeService.findAllById(uuids));
+    }
+
+    /**
+     * Removes the employees with every id in the body if all of them exist, and none otherwise, answering 404 with
+     * each unknown id's item.
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<Response<List<MockEmployeeBatch.Item>>> deleteEmployees(@RequestBody List<UUID> uuids) {
+        return batchResponse(mockEmployeeService.deleteAllById(uuids));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static ResponseEntity<Response<List<MockEmployeeBatch.Item>>> batchResponse(MockEmployeeBatch batch) {
+        return switch (batch.outcome()) {
+            case APPLIED -> ResponseEntity.ok(Response.handledWith(batch.items()));
+            case INVALID -> ResponseEntity.badRequest()
+                    .body(Response.errorWith(batch.items(), "Invalid items, nothing was applied"));
+            case NOT_FOUND -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Response.errorWith(batch.items(), "Unknown ids, nothing was applied"));
+        };
+    }
 }
@@ -0,0 +1,31 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Outcome of a batch request: whether it was applied, and one item per input, in input order, holding its employee
+ * once applied, or what was wrong with it otherwise.
+ */
+public record MockEmployeeBatch(Outcome outcome, List<Item> items) {
+
+    public enum Outcome {
+        APPLIED,
+        /** Some inputs are invalid, so none was applied. */
+        INVALID,
+        /** Some ids are unknown, so none was applied. */
+        NOT_FOUND
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(int index, MockEmployee employee, String error) {
+
+        public static Item of(int index, MockEmployee employee) {
+            return new Item(index, employee, null);
+        }
+
+        public static Item failed(int index, String error) {
+            return new Item(index, null, error);
+        }
+    }
+}
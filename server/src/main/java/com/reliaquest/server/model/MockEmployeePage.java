@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * A page of employees plus the opaque cursor that fetches the next one, or null when this is the last page.
+ */
+public record MockEmployeePage(List<MockEmployee> employees, String nextCursor) {}
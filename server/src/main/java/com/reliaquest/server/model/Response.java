@@ -1,22 +1,35 @@
 package com.reliaquest.server.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Getter;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public record Response<T>(T data, Status status, String error) {
+public record Response<T>(
+        T data,
+        Status status,
+        String error,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("next_cursor") String nextCursor) {
 
     public static <T> Response<T> handled() {
-        return new Response<>(null, Status.HANDLED, null);
+        return new Response<>(null, Status.HANDLED, null, null);
     }
 
     public static <T> Response<T> handledWith(T data) {
-        return new Response<>(data, Status.HANDLED, null);
+        return new Response<>(data, Status.HANDLED, null, null);
+    }
+
+    public static <T> Response<T> handledWith(T data, String nextCursor) {
+        return new Response<>(data, Status.HANDLED, null, nextCursor);
     }
 
     public static <T> Response<T> error(String error) {
-        return new Response<>(null, Status.ERROR, error);
+        return new Response<>(null, Status.ERROR, error, null);
+    }
+
+    public static <T> Response<T> errorWith(T data, String error) {
+        return new Response<>(data, Status.ERROR, error, null);
     }
 
     public enum Status {
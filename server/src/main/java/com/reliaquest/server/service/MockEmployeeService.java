@@ -1,58 +1,216 @@
 package com.reliaquest.server.service;
 
-import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.config.MockEmployeeGenerator;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeBatch;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.MockEmployeeChangeFeed;
+import jakarta.validation.Validator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
-    private final Faker faker;
+    public static final int DEFAULT_PAGE_LIMIT = 100;
+    public static final int MAX_PAGE_LIMIT = 10_000;
+    public static final int MAX_BATCH_SIZE = 10_000;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private static final String NOT_FOUND = "Employee not found";
+
+    private final MockEmployeeGenerator mockEmployeeGenerator;
+
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final Validator validator;
+
+    private final MockEmployeeChangeFeed mockEmployeeChangeFeed;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.findAll();
+    }
+
+    /** Every employee together with the store version they reflect, for {@link #eTag}. */
+    public MockEmployeeStore.Snapshot getMockEmployeeSnapshot() {
+        return mockEmployeeStore.snapshot();
+    }
+
+    /**
+     * Strong entity tag of the employee list as of now, read without touching the list itself. A client holding the
+     * list under this tag holds exactly what {@link #getMockEmployeeSnapshot()} would return.
+     */
+    public String getMockEmployeesETag() {
+        return eTag(mockEmployeeStore.version());
+    }
+
+    /**
+     * Strong entity tag of the employee list at {@code version}: its version tag, which also tells this start's
+     * versions apart from a previous start's, and can be passed to {@link #subscribeToChanges} to resume from there.
+     */
+    public String eTag(long version) {
+        return "\"" + mockEmployeeChangeFeed.versionTag(version) + "\"";
+    }
+
+    /**
+     * Streams every later change to the employees, resuming after the version tag {@code lastEventId} when given, and
+     * otherwise starting with a snapshot of every employee.
+     */
+    public SseEmitter subscribeToChanges(String lastEventId) {
+        return mockEmployeeChangeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * A page of at most {@code limit} employees following {@code cursor}, or the first page when no cursor is given.
+     * Cursors are opaque to clients and stay valid while employees are created or deleted.
+     */
+    public MockEmployeePage getMockEmployeePage(String cursor, Integer limit) {
+        final int pageLimit = limit == null ? DEFAULT_PAGE_LIMIT : limit;
+        if (pageLimit < 1 || pageLimit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+        final var page = mockEmployeeStore.findPage(cursor == null ? -1 : parseCursor(cursor), pageLimit);
+        return new MockEmployeePage(
+                page.employees(), page.nextSequence() == null ? null : Long.toString(page.nextSequence()));
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = mockEmployeeGenerator.create(input);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+    private String validate(CreateMockEmployeeInput input) {
+        if (input == null) {
+            return "Missing employee";
+        }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
         }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
 
-        return false;
+    private static void checkBatchSize(List<?> inputs) {
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may hold at most " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    /** One item per employee, with unknown ones reported as not found. */
+    private static MockEmployeeBatch applied(List<Optional<MockEmployee>> mockEmployees) {
+        return new MockEmployeeBatch(
+                MockEmployeeBatch.Outcome.APPLIED,
+                IntStream.range(0, mockEmployees.size())
+                        .mapToObj(i -> mockEmployees
+                                .get(i)
+                                .map(employee -> MockEmployeeBatch.Item.of(i, employee))
+                                .orElseGet(() -> MockEmployeeBatch.Item.failed(i, NOT_FOUND)))
+                        .toList());
+    }
+
+    /** One item per input, carrying its error if it has one. */
+    private static MockEmployeeBatch failed(MockEmployeeBatch.Outcome outcome, List<String> errors) {
+        return new MockEmployeeBatch(
+                outcome,
+                IntStream.range(0, errors.size())
+                        .mapToObj(i -> new MockEmployeeBatch.Item(i, null, errors.get(i)))
+                        .toList());
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            final long sequence = Long.parseLong(cursor);
+            if (sequence >= 0) {
+                return sequence;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below.
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = mockEmployeeStore.removeById(uuid);
+        mockEmployee.ifPresent(removed -> log.debug("Removed employee: {}", removed));
+        return mockEmployee;
+    }
+
+    /** Creates every employee if every input is valid, and none otherwise, with no other write in between. */
+    public MockEmployeeBatch createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        checkBatchSize(inputs);
+        final List<String> errors = inputs.stream().map(this::validate).toList();
+        if (errors.stream().anyMatch(Objects::nonNull)) {
+            return failed(MockEmployeeBatch.Outcome.INVALID, errors);
+        }
+        final List<MockEmployee> mockEmployees = inputs.stream().map(mockEmployeeGenerator::create).toList();
+        mockEmployeeStore.addAll(mockEmployees);
+        log.debug("Added {} employees", mockEmployees.size());
+        return applied(mockEmployees.stream().map(Optional::of).toList());
+    }
+
+    /** Looks up every id; unknown ones are reported in their own item. */
+    public MockEmployeeBatch findAllById(@NonNull List<UUID> uuids) {
+        checkBatchSize(uuids);
+        return applied(uuids.stream()
+                .map(uuid -> uuid == null ? Optional.<MockEmployee>empty() : mockEmployeeStore.findById(uuid))
+                .toList());
+    }
+
+    /** Removes the employees with every id if they all exist, and none otherwise. */
+    public MockEmployeeBatch deleteAllById(@NonNull List<UUID> uuids) {
+        checkBatchSize(uuids);
+        final Set<UUID> seen = new HashSet<>();
+        final List<String> errors = uuids.stream()
+                .map(uuid -> {
+                    if (uuid == null) {
+                        return "Missing id";
+                    }
+                    return seen.add(uuid) ? null : "Duplicate id " + uuid;
+                })
+                .toList();
+        if (errors.stream().anyMatch(Objects::nonNull)) {
+            return failed(MockEmployeeBatch.Outcome.INVALID, errors);
+        }
+        final var mockEmployees = mockEmployeeStore.removeAllById(uuids);
+        if (mockEmployees.stream().anyMatch(Optional::isEmpty)) {
+            return failed(
+                    MockEmployeeBatch.Outcome.NOT_FOUND,
+                    mockEmployees.stream()
+                            .map(employee -> employee.isEmpty() ? NOT_FOUND : null)
+                            .toList());
+        }
+        log.debug("Removed {} employees", mockEmployees.size());
+        return applied(mockEmployees);
+    }
+
+    /** Removes the earliest-created employee with the given name, which need not be the one the caller meant. */
+    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final var mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+        mockEmployee.ifPresent(removed -> log.debug("Removed employee: {}", removed));
+        return mockEmployee.isPresent();
     }
 }
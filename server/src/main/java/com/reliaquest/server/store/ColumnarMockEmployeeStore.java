@@ -0,0 +1,300 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+
+/**
+ * {@link MockEmployeeStore} holding employees as off-heap columns, for datasets too large to keep as objects.
+ *
+ * <p>Rows are appended in insertion order, so a row number doubles as the insertion sequence. Each chunk of
+ * {@value #CHUNK_ROWS} rows is one direct buffer laid out column by column:
+ *
+ * <ul>
+ *   <li>the id as two longs;
+ *   <li>salary and age as primitive ints, with {@link Integer#MIN_VALUE} standing for null;
+ *   <li>the name as two {@link StringDictionary} codes, for the part before the first space and the rest, so a
+ *       million "first last" names cost two small dictionaries;
+ *   <li>the title as a dictionary code;
+ *   <li>the email, which is unique per employee, as a pointer into an off-heap UTF-8 arena;
+ *   <li>a live flag, cleared on removal.
+ * </ul>
+ *
+ * <p>Lookups by id go through an {@link OffHeapIdIndex}; name lookups and paging scan the columns directly. A
+ * {@link MockEmployee} is only built for rows that are actually returned. Removed rows keep their space, so cursors
+ * stay valid, until the store is rebuilt (for example from a snapshot on restart).
+ *
+ * <p>Reads and writes share a read-write lock, as the columns and the index are not safe to read while they grow.
+ */
+public class ColumnarMockEmployeeStore extends MockEmployeeStore {
+
+    static final int CHUNK_ROWS = 1 << 16;
+    private static final int ARENA_BYTES = 1 << 20;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_EMAIL = -1;
+
+    private static final int MSB = 0;
+    private static final int LSB = MSB + Long.BYTES * CHUNK_ROWS;
+    private static final int SALARY = LSB + Long.BYTES * CHUNK_ROWS;
+    private static final int AGE = SALARY + Integer.BYTES * CHUNK_ROWS;
+    private static final int FIRST_NAME = AGE + Integer.BYTES * CHUNK_ROWS;
+    private static final int REST_OF_NAME = FIRST_NAME + Integer.BYTES * CHUNK_ROWS;
+    private static final int TITLE = REST_OF_NAME + Integer.BYTES * CHUNK_ROWS;
+    private static final int EMAIL_POINTER = TITLE + Integer.BYTES * CHUNK_ROWS;
+    private static final int EMAIL_LENGTH = EMAIL_POINTER + Long.BYTES * CHUNK_ROWS;
+    private static final int LIVE = EMAIL_LENGTH + Integer.BYTES * CHUNK_ROWS;
+    private static final int CHUNK_BYTES = LIVE + CHUNK_ROWS;
+
+    private final ReentrantReadWriteLock columnLock = new ReentrantReadWriteLock();
+
+    // Guarded by columnLock.
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private final List<ByteBuffer> emailArenas = new ArrayList<>();
+    private final StringDictionary nameParts = new StringDictionary();
+    private final StringDictionary titles = new StringDictionary();
+    private final OffHeapIdIndex ids;
+    private int rows;
+    private int liveRows;
+
+    public ColumnarMockEmployeeStore(@NonNull Collection<MockEmployee> employees) {
+        this(employees, 0);
+    }
+
+    /** A store holding {@code employees}, in order, whose version continues from {@code version}. */
+    public ColumnarMockEmployeeStore(@NonNull Collection<MockEmployee> employees, long version) {
+        super(version);
+        ids = new OffHeapIdIndex(employees.size());
+        employees.forEach(this::insert);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        columnLock.readLock().lock();
+        try {
+            final int row = ids.get(id);
+            return row < 0 ? Optional.empty() : Optional.of(materialize(row));
+        } finally {
+            columnLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        final String lowerCase = name.toLowerCase(Locale.ROOT);
+        final int space = lowerCase.indexOf(' ');
+        columnLock.readLock().lock();
+        try {
+            // Resolve the name to dictionary codes once; the scan then only compares ints.
+            final BitSet firstNames =
+                    nameParts.codesIgnoringCase(space < 0 ? lowerCase : lowerCase.substring(0, space));
+            final BitSet restsOfName = space < 0 ? null : nameParts.codesIgnoringCase(lowerCase.substring(space + 1));
+            if (firstNames.isEmpty() || (restsOfName != null && restsOfName.isEmpty())) {
+                return Optional.empty();
+            }
+            for (int row = 0; row < rows; row++) {
+                final ByteBuffer chunk = chunk(row);
+                final int index = row % CHUNK_ROWS;
+                if (chunk.get(LIVE + index) != 0
+                        && matches(firstNames, chunk.getInt(FIRST_NAME + index * Integer.BYTES))
+                        && (restsOfName == null
+                                ? chunk.getInt(REST_OF_NAME + index * Integer.BYTES) < 0
+                                : matches(restsOfName, chunk.getInt(REST_OF_NAME + index * Integer.BYTES)))) {
+                    return Optional.of(materialize(row));
+                }
+            }
+            return Optional.empty();
+        } finally {
+            columnLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        columnLock.readLock().lock();
+        try {
+            final List<MockEmployee> employees = new ArrayList<>(liveRows);
+            for (int row = 0; row < rows; row++) {
+                if (isLive(row)) {
+                    employees.add(materialize(row));
+                }
+            }
+            return List.copyOf(employees);
+        } finally {
+            columnLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page findPage(long afterSequence, int limit) {
+        columnLock.readLock().lock();
+        try {
+            final List<MockEmployee> employees = new ArrayList<>(Math.min(limit, liveRows));
+            long lastSequence = afterSequence;
+            int row = (int) Math.min(Math.max(afterSequence + 1, 0), rows);
+            for (; row < rows && employees.size() < limit; row++) {
+                if (isLive(row)) {
+                    employees.add(materialize(row));
+                    lastSequence = row;
+                }
+            }
+            while (row < rows && !isLive(row)) {
+                row++;
+            }
+            return new Page(List.copyOf(employees), row < rows ? lastSequence : null);
+        } finally {
+            columnLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        columnLock.readLock().lock();
+        try {
+            return liveRows;
+        } finally {
+            columnLock.readLock().unlock();
+        }
+    }
+
+    /** Bytes of direct memory held by the columns, the email arena and the id index. */
+    public long offHeapBytes() {
+        columnLock.readLock().lock();
+        try {
+            return (long) chunks.size() * CHUNK_BYTES
+                    + emailArenas.stream().mapToLong(ByteBuffer::capacity).sum()
+                    + ids.bytes();
+        } finally {
+            columnLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void insert(MockEmployee employee) {
+        columnLock.writeLock().lock();
+        try {
+            final int existing = ids.get(employee.getId());
+            if (existing >= 0) {
+                kill(existing);
+            }
+            if (rows % CHUNK_ROWS == 0) {
+                chunks.add(ByteBuffer.allocateDirect(CHUNK_BYTES));
+            }
+            final int row = rows;
+            final ByteBuffer chunk = chunk(row);
+            final int index = row % CHUNK_ROWS;
+            final String name = employee.getName();
+            final int space = name == null ? -1 : name.indexOf(' ');
+            chunk.putLong(MSB + index * Long.BYTES, employee.getId().getMostSignificantBits())
+                    .putLong(LSB + index * Long.BYTES, employee.getId().getLeastSignificantBits())
+                    .putInt(SALARY + index * Integer.BYTES, orNull(employee.getSalary()))
+                    .putInt(AGE + index * Integer.BYTES, orNull(employee.getAge()))
+                    .putInt(
+                            FIRST_NAME + index * Integer.BYTES,
+                            nameParts.encode(space < 0 ? name : name.substring(0, space)))
+                    .putInt(
+                            REST_OF_NAME + index * Integer.BYTES,
+                            space < 0 ? -1 : nameParts.encode(name.substring(space + 1)))
+                    .putInt(TITLE + index * Integer.BYTES, titles.encode(employee.getTitle()));
+            writeEmail(chunk, index, employee.getEmail());
+            chunk.put(LIVE + index, (byte) 1);
+            ids.put(employee.getId(), row);
+            rows++;
+            liveRows++;
+        } finally {
+            columnLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void delete(UUID id) {
+        columnLock.writeLock().lock();
+        try {
+            final int row = ids.get(id);
+            if (row >= 0) {
+                kill(row);
+            }
+        } finally {
+            columnLock.writeLock().unlock();
+        }
+    }
+
+    private void kill(int row) {
+        final ByteBuffer chunk = chunk(row);
+        final int index = row % CHUNK_ROWS;
+        chunk.put(LIVE + index, (byte) 0);
+        ids.remove(new UUID(chunk.getLong(MSB + index * Long.BYTES), chunk.getLong(LSB + index * Long.BYTES)));
+        liveRows--;
+    }
+
+    private MockEmployee materialize(int row) {
+        final ByteBuffer chunk = chunk(row);
+        final int index = row % CHUNK_ROWS;
+        final String firstName = nameParts.decode(chunk.getInt(FIRST_NAME + index * Integer.BYTES));
+        final String restOfName = nameParts.decode(chunk.getInt(REST_OF_NAME + index * Integer.BYTES));
+        return MockEmployee.builder()
+                .id(new UUID(chunk.getLong(MSB + index * Long.BYTES), chunk.getLong(LSB + index * Long.BYTES)))
+                .name(restOfName == null ? firstName : firstName + " " + restOfName)
+                .salary(fromNull(chunk.getInt(SALARY + index * Integer.BYTES)))
+                .age(fromNull(chunk.getInt(AGE + index * Integer.BYTES)))
+                .title(titles.decode(chunk.getInt(TITLE + index * Integer.BYTES)))
+                .email(readEmail(chunk, index))
+                .build();
+    }
+
+    private void writeEmail(ByteBuffer chunk, int index, String email) {
+        if (email == null) {
+            chunk.putInt(EMAIL_LENGTH + index * Integer.BYTES, NULL_EMAIL);
+            return;
+        }
+        final byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer arena = emailArenas.isEmpty() ? null : emailArenas.get(emailArenas.size() - 1);
+        if (arena == null || arena.remaining() < bytes.length) {
+            arena = ByteBuffer.allocateDirect(Math.max(ARENA_BYTES, bytes.length));
+            emailArenas.add(arena);
+        }
+        final long pointer = (long) (emailArenas.size() - 1) << 32 | arena.position();
+        arena.put(bytes);
+        chunk.putLong(EMAIL_POINTER + index * Long.BYTES, pointer)
+                .putInt(EMAIL_LENGTH + index * Integer.BYTES, bytes.length);
+    }
+
+    private String readEmail(ByteBuffer chunk, int index) {
+        final int length = chunk.getInt(EMAIL_LENGTH + index * Integer.BYTES);
+        if (length == NULL_EMAIL) {
+            return null;
+        }
+        final long pointer = chunk.getLong(EMAIL_POINTER + index * Long.BYTES);
+        final byte[] bytes = new byte[length];
+        emailArenas.get((int) (pointer >>> 32)).get((int) pointer, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean isLive(int row) {
+        return chunk(row).get(LIVE + row % CHUNK_ROWS) != 0;
+    }
+
+    private ByteBuffer chunk(int row) {
+        return chunks.get(row / CHUNK_ROWS);
+    }
+
+    private static boolean matches(BitSet codes, int code) {
+        return code >= 0 && codes.get(code);
+    }
+
+    private static int orNull(Integer value) {
+        return value == null ? NULL_INT : value;
+    }
+
+    private static Integer fromNull(int value) {
+        return value == NULL_INT ? null : value;
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.server.store;
+
+/**
+ * When journal appends are forced to disk.
+ */
+public enum FsyncPolicy {
+    /** Before every write is acknowledged; nothing acknowledged is ever lost. */
+    ALWAYS,
+    /** On a fixed interval; a crash loses at most that interval of writes. */
+    INTERVAL,
+    /** Whenever the operating system flushes; survives a process crash but not a power loss. */
+    NEVER
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.NonNull;
+
+/**
+ * {@link MockEmployeeStore} keeping {@link MockEmployee} objects on the heap, with O(1) lookup by id and by
+ * case-insensitive name. Reads are lock-free: the id, name and insertion-order indexes are concurrent maps, which the
+ * serialized writes always update together.
+ */
+public class HeapMockEmployeeStore extends MockEmployeeStore {
+
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, MockEmployee> bySequence = new ConcurrentSkipListMap<>();
+    // Immutable, insertion-ordered and replaced on every write; most names belong to a single employee.
+    private final Map<String, List<Entry>> byName = new ConcurrentHashMap<>();
+
+    // Guarded by the write lock.
+    private long nextSequence;
+
+    public HeapMockEmployeeStore(@NonNull Collection<MockEmployee> employees) {
+        this(employees, 0);
+    }
+
+    /** A store holding {@code employees}, in order, whose version continues from {@code version}. */
+    public HeapMockEmployeeStore(@NonNull Collection<MockEmployee> employees, long version) {
+        super(version);
+        employees.forEach(this::insert);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id)).map(Entry::employee);
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        return Optional.ofNullable(byName.get(nameKey(name)))
+                .map(sameName -> sameName.get(0))
+                .map(Entry::employee);
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return List.copyOf(bySequence.values());
+    }
+
+    @Override
+    public Page findPage(long afterSequence, int limit) {
+        List<MockEmployee> employees = new ArrayList<>(Math.min(limit, byId.size()));
+        Iterator<Map.Entry<Long, MockEmployee>> iterator =
+                bySequence.tailMap(afterSequence, false).entrySet().iterator();
+        long lastSequence = afterSequence;
+        while (employees.size() < limit && iterator.hasNext()) {
+            Map.Entry<Long, MockEmployee> entry = iterator.next();
+            employees.add(entry.getValue());
+            lastSequence = entry.getKey();
+        }
+        return new Page(List.copyOf(employees), iterator.hasNext() ? lastSequence : null);
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+    @Override
+    protected void insert(MockEmployee employee) {
+        unlink(byId.get(employee.getId()));
+        Entry entry = new Entry(nextSequence++, employee);
+        byId.put(employee.getId(), entry);
+        bySequence.put(entry.sequence(), employee);
+        if (employee.getName() != null) {
+            // New sequences are always the largest, so appending keeps each list in insertion order.
+            byName.merge(nameKey(employee.getName()), List.of(entry), (sameName, added) -> {
+                List<Entry> merged = new ArrayList<>(sameName.size() + 1);
+                merged.addAll(sameName);
+                merged.add(entry);
+                return List.copyOf(merged);
+            });
+        }
+    }
+
+    @Override
+    protected void delete(UUID id) {
+        unlink(byId.get(id));
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        MockEmployee employee = entry.employee();
+        byId.remove(employee.getId());
+        bySequence.remove(entry.sequence());
+        if (employee.getName() != null) {
+            byName.computeIfPresent(nameKey(employee.getName()), (key, sameName) -> {
+                List<Entry> remaining = sameName.stream()
+                        .filter(other -> other.sequence() != entry.sequence())
+                        .toList();
+                return remaining.isEmpty() ? null : remaining;
+            });
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long sequence, MockEmployee employee) {}
+}
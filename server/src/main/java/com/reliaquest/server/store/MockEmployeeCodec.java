@@ -0,0 +1,117 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a {@link MockEmployee} shared by the journal and the snapshot file: the id as two longs, then
+ * a presence bit set followed by the present fields, strings as a length-prefixed UTF-8 run.
+ */
+final class MockEmployeeCodec {
+
+    private static final int NAME = 1;
+    private static final int SALARY = 1 << 1;
+    private static final int AGE = 1 << 2;
+    private static final int TITLE = 1 << 3;
+    private static final int EMAIL = 1 << 4;
+
+    private MockEmployeeCodec() {}
+
+    static byte[] encode(MockEmployee employee) {
+        final var buffer = ByteBuffer.allocate(size(employee));
+        write(buffer, employee);
+        return buffer.array();
+    }
+
+    /** Exact number of bytes {@link #write} puts for {@code employee}. */
+    static int size(MockEmployee employee) {
+        return 2 * Long.BYTES
+                + 1
+                + length(employee.getName())
+                + (employee.getSalary() != null ? Integer.BYTES : 0)
+                + (employee.getAge() != null ? Integer.BYTES : 0)
+                + length(employee.getTitle())
+                + length(employee.getEmail());
+    }
+
+    static void write(ByteBuffer buffer, MockEmployee employee) {
+        writeId(buffer, employee.getId());
+        buffer.put((byte) ((employee.getName() != null ? NAME : 0)
+                | (employee.getSalary() != null ? SALARY : 0)
+                | (employee.getAge() != null ? AGE : 0)
+                | (employee.getTitle() != null ? TITLE : 0)
+                | (employee.getEmail() != null ? EMAIL : 0)));
+        putString(buffer, employee.getName());
+        if (employee.getSalary() != null) {
+            buffer.putInt(employee.getSalary());
+        }
+        if (employee.getAge() != null) {
+            buffer.putInt(employee.getAge());
+        }
+        putString(buffer, employee.getTitle());
+        putString(buffer, employee.getEmail());
+    }
+
+    static MockEmployee decode(ByteBuffer buffer) {
+        final UUID id = readId(buffer);
+        final int present = buffer.get();
+        return MockEmployee.builder()
+                .id(id)
+                .name((present & NAME) != 0 ? getString(buffer) : null)
+                .salary((present & SALARY) != 0 ? buffer.getInt() : null)
+                .age((present & AGE) != 0 ? buffer.getInt() : null)
+                .title((present & TITLE) != 0 ? getString(buffer) : null)
+                .email((present & EMAIL) != 0 ? getString(buffer) : null)
+                .build();
+    }
+
+    static void writeId(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readId(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : Integer.BYTES + utf8Length(value);
+    }
+
+    /** UTF-8 length of {@code value}, without encoding it. */
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++; // Unpaired surrogates are encoded as '?'.
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value != null) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        final byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
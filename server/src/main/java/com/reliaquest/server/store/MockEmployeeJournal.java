@@ -0,0 +1,254 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only write-ahead log of store changes, split into segments named after the first version they may hold.
+ *
+ * <p>Each record is {@code [payload length][CRC32 of payload][payload]} with a payload of
+ * {@code [version][type][employee or id]}, so a record torn by a crash is detected on replay and ends the log there.
+ * {@link #roll()} starts a new segment; once a snapshot covers everything before it, the older segments can go.
+ */
+@Slf4j
+public class MockEmployeeJournal implements Closeable {
+
+    private static final Pattern SEGMENT = Pattern.compile("journal-(\\d{1,18})\\.log");
+    private static final int RECORD_HEADER = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final FsyncPolicy fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock.
+    private FileChannel channel;
+    private Path segment;
+    private long lastVersion;
+    private boolean unforced;
+
+    /**
+     * Opens a new segment for changes after {@code version}, the version recovered by {@link #replay}. Segments that
+     * start after it could only be reached past a torn record, so they are discarded rather than replayed later.
+     */
+    public MockEmployeeJournal(@NonNull Path directory, @NonNull FsyncPolicy fsync, long version) throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.lastVersion = version;
+        for (Path unreachable : segments(directory)) {
+            if (firstVersion(unreachable) > version) {
+                log.warn("Discarding journal {}, which starts after the recovered version {}", unreachable, version);
+                Files.delete(unreachable);
+            }
+        }
+        lock.lock();
+        try {
+            openSegment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Appends {@code change}, forcing it to disk first under {@link FsyncPolicy#ALWAYS}. */
+    public void append(@NonNull MockEmployeeStore.Change change) {
+        final byte[] body = change.type() == MockEmployeeStore.Change.Type.ADDED
+                ? MockEmployeeCodec.encode(change.employee())
+                : idOnly(change.employee());
+        final var payload = ByteBuffer.allocate(Long.BYTES + 1 + body.length)
+                .putLong(change.version())
+                .put((byte) change.type().ordinal())
+                .put(body);
+        final var crc = new CRC32();
+        crc.update(payload.array());
+        final var record = ByteBuffer.allocate(RECORD_HEADER + payload.capacity())
+                .putInt(payload.capacity())
+                .putInt((int) crc.getValue())
+                .put(payload.array())
+                .flip();
+        lock.lock();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            lastVersion = change.version();
+            if (fsync == FsyncPolicy.ALWAYS) {
+                channel.force(false);
+            } else {
+                unforced = true;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to journal " + segment, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Forces appended records to disk; scheduled under {@link FsyncPolicy#INTERVAL}. */
+    public void force() {
+        lock.lock();
+        try {
+            if (unforced) {
+                channel.force(false);
+                unforced = false;
+            }
+        } catch (IOException e) {
+            log.warn("Failed to force journal {}", segment, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the current segment and continues in a new one.
+     *
+     * @return every segment before the new one; they hold nothing newer than a snapshot taken after this call
+     */
+    public List<Path> roll() throws IOException {
+        lock.lock();
+        try {
+            closeSegment();
+            openSegment();
+            return segments(directory).stream()
+                    .filter(existing -> !existing.equals(segment))
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closeSegment();
+        } catch (IOException e) {
+            log.warn("Failed to close journal {}", segment, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replays every change after {@code afterVersion} from the segments in {@code directory}, in order. Removals carry
+     * an employee with only its id set. Replay stops at the first torn or out-of-sequence record.
+     *
+     * @return the version of the last change replayed, or {@code afterVersion} if there was none
+     */
+    public static long replay(
+            @NonNull Path directory, long afterVersion, @NonNull Consumer<MockEmployeeStore.Change> changes)
+            throws IOException {
+        long version = afterVersion;
+        for (Path segment : segments(directory)) {
+            final var buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+            while (buffer.remaining() >= RECORD_HEADER) {
+                final int length = buffer.getInt();
+                final int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    log.warn("Journal {} ends with a torn record; ignoring it and anything after", segment);
+                    return version;
+                }
+                final var payload = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                final var crc = new CRC32();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Journal {} has a corrupt record; ignoring it and anything after", segment);
+                    return version;
+                }
+                final var change = decode(payload);
+                if (change.version() <= version) {
+                    continue; // Already covered by the snapshot.
+                }
+                if (change.version() != version + 1) {
+                    log.warn(
+                            "Journal {} skips from version {} to {}; stopping replay",
+                            segment,
+                            version,
+                            change.version());
+                    return version;
+                }
+                changes.accept(change);
+                version = change.version();
+            }
+        }
+        return version;
+    }
+
+    /** Journal segments in {@code directory}, oldest first. */
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            final List<Path> segments = new ArrayList<>(
+                    files.filter(MockEmployeeJournal::isSegment).toList());
+            segments.sort((a, b) -> Long.compare(firstVersion(a), firstVersion(b)));
+            return segments;
+        }
+    }
+
+    private void openSegment() {
+        segment = directory.resolve("journal-" + (lastVersion + 1) + ".log");
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(
+                    segment,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal " + segment, e);
+        }
+    }
+
+    private void closeSegment() throws IOException {
+        if (channel != null && channel.isOpen()) {
+            channel.force(false);
+            channel.close();
+            unforced = false;
+        }
+    }
+
+    private static MockEmployeeStore.Change decode(ByteBuffer payload) {
+        final long version = payload.getLong();
+        final var type = MockEmployeeStore.Change.Type.values()[payload.get()];
+        final MockEmployee employee = type == MockEmployeeStore.Change.Type.ADDED
+                ? MockEmployeeCodec.decode(payload)
+                : MockEmployee.builder().id(MockEmployeeCodec.readId(payload)).build();
+        return new MockEmployeeStore.Change(version, type, employee);
+    }
+
+    private static byte[] idOnly(MockEmployee employee) {
+        final var buffer = ByteBuffer.allocate(2 * Long.BYTES);
+        MockEmployeeCodec.writeId(buffer, employee.getId());
+        return buffer.array();
+    }
+
+    private static boolean isSegment(Path file) {
+        return SEGMENT.matcher(file.getFileName().toString()).matches();
+    }
+
+    private static long firstVersion(Path segment) {
+        final Matcher matcher = SEGMENT.matcher(segment.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a journal segment: " + segment);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,181 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a {@link MockEmployeeStore} on local disk: a {@link MockEmployeeJournal} records every change before it is
+ * applied, and a {@link MockEmployeeSnapshotFile} periodically compacts the store so the journal can be trimmed.
+ *
+ * <p>On startup the latest snapshot is loaded and the journal tail replayed on top of it, which restores the exact
+ * dataset of the previous run without generating a new one.
+ */
+@Slf4j
+public class MockEmployeePersistence implements Closeable {
+
+    private static final String SNAPSHOT = "snapshot.bin";
+
+    private final Path directory;
+    private final FsyncPolicy fsync;
+    private final Duration fsyncInterval;
+    private final Duration snapshotInterval;
+    private final ScheduledExecutorService scheduler;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    private MockEmployeeStore store;
+    private MockEmployeeJournal journal;
+
+    // Guarded by snapshotLock once attached.
+    private long snapshotVersion = -1;
+
+    public MockEmployeePersistence(
+            @NonNull Path directory,
+            @NonNull FsyncPolicy fsync,
+            @NonNull Duration fsyncInterval,
+            @NonNull Duration snapshotInterval) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.fsyncInterval = fsyncInterval;
+        this.snapshotInterval = snapshotInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "mock-employee-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** The employees and store version the previous run left, or empty if nothing has been persisted yet. */
+    public Optional<MockEmployeeStore.Snapshot> recover() {
+        final long started = System.nanoTime();
+        try {
+            final Path snapshotFile = directory.resolve(SNAPSHOT);
+            final var snapshot = Files.exists(snapshotFile) ? MockEmployeeSnapshotFile.read(snapshotFile) : null;
+            final Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+            final long snapshotVersion = snapshot == null ? 0 : snapshot.version();
+            if (snapshot != null) {
+                snapshot.employees().forEach(employee -> employees.put(employee.getId(), employee));
+            }
+            final long version = MockEmployeeJournal.replay(directory, snapshotVersion, change -> {
+                // Replacing an employee moves it to the end, as MockEmployeeStore.add does.
+                employees.remove(change.employee().getId());
+                if (change.type() == MockEmployeeStore.Change.Type.ADDED) {
+                    employees.put(change.employee().getId(), change.employee());
+                }
+            });
+            if (snapshot == null && version == snapshotVersion) {
+                // At most an empty segment, left by a first start that stopped before its initial snapshot.
+                return Optional.empty();
+            }
+
+            log.info(
+                    "Recovered {} mock employees at version {} ({} journaled changes) from {} in {} ms",
+                    employees.size(),
+                    version,
+                    version - snapshotVersion,
+                    directory,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            this.snapshotVersion = snapshot == null ? -1 : snapshotVersion;
+            return Optional.of(new MockEmployeeStore.Snapshot(List.copyOf(employees.values()), version));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover mock employees from " + directory, e);
+        }
+    }
+
+    /**
+     * Starts journaling every change to {@code store} and snapshotting it on the configured interval. A store that was
+     * not recovered is snapshotted right away, so the next start does not have to generate it again.
+     */
+    public void attach(@NonNull MockEmployeeStore store) {
+        try {
+            this.store = store;
+            this.journal = new MockEmployeeJournal(directory, fsync, store.version());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal in " + directory, e);
+        }
+        store.addListener(journal::append);
+        snapshot();
+
+        if (fsync == FsyncPolicy.INTERVAL) {
+            scheduler.scheduleWithFixedDelay(
+                    journal::force, fsyncInterval.toMillis(), fsyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(
+                this::snapshotQuietly,
+                snapshotInterval.toMillis(),
+                snapshotInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes a snapshot of the store if it changed since the last one, then deletes the journal segments it covers.
+     */
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            if (store.version() == snapshotVersion) {
+                return;
+            }
+            final long started = System.nanoTime();
+            // Roll first: the new segment may repeat changes the snapshot includes, but never misses one.
+            final List<Path> covered = journal.roll();
+            final var snapshot = store.snapshot();
+            MockEmployeeSnapshotFile.write(directory.resolve(SNAPSHOT), snapshot);
+            for (Path segment : covered) {
+                Files.deleteIfExists(segment);
+            }
+            snapshotVersion = snapshot.version();
+            log.info(
+                    "Snapshotted {} mock employees at version {} in {} ms",
+                    snapshot.employees().size(),
+                    snapshot.version(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to snapshot mock employees to " + directory, e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        // Not shutdownNow: interrupting a thread inside FileChannel.force closes the journal channel.
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal == null) {
+            return;
+        }
+        try {
+            snapshot();
+        } finally {
+            journal.close();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("Scheduled snapshot failed; the journal keeps growing until one succeeds", e);
+        }
+    }
+}
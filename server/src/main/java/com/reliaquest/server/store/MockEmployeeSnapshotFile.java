@@ -0,0 +1,111 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compacted copy of the whole store, read and written through memory-mapped windows so neither side copies the file
+ * through heap buffers.
+ *
+ * <p>Layout: {@code [magic][format][store version][employee count]} followed by one
+ * {@code [length][employee]} record per employee, in insertion order. Snapshots are written to a temporary file, forced
+ * to disk and then atomically renamed, so a crash mid-write leaves the previous snapshot in place.
+ */
+public final class MockEmployeeSnapshotFile {
+
+    private static final int MAGIC = 0x4D454D53; // "MEMS"
+    private static final int FORMAT = 1;
+    private static final int HEADER = 2 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final long WINDOW = 64L << 20;
+
+    private MockEmployeeSnapshotFile() {}
+
+    public static void write(Path file, MockEmployeeStore.Snapshot snapshot) throws IOException {
+        long size = HEADER;
+        for (MockEmployee employee : snapshot.employees()) {
+            size += Integer.BYTES + MockEmployeeCodec.size(employee);
+        }
+
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final var window = new Window(channel, FileChannel.MapMode.READ_WRITE, size);
+            window.ensure(HEADER)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT)
+                    .putLong(snapshot.version())
+                    .putInt(snapshot.employees().size());
+            for (MockEmployee employee : snapshot.employees()) {
+                final int length = MockEmployeeCodec.size(employee);
+                MockEmployeeCodec.write(window.ensure(Integer.BYTES + length).putInt(length), employee);
+            }
+            window.force();
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static MockEmployeeStore.Snapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var window = new Window(channel, FileChannel.MapMode.READ_ONLY, channel.size());
+            final MappedByteBuffer header = window.ensure(HEADER);
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT) {
+                throw new IOException("Not a mock employee snapshot: " + file);
+            }
+            final long version = header.getLong();
+            final int count = header.getInt();
+            final List<MockEmployee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final int length = window.ensure(Integer.BYTES).getInt();
+                employees.add(MockEmployeeCodec.decode(window.ensure(length)));
+            }
+            return new MockEmployeeStore.Snapshot(employees, version);
+        }
+    }
+
+    /** Maps the file a window at a time, moving on whenever the next read or write would not fit. */
+    private static final class Window {
+
+        private final FileChannel channel;
+        private final FileChannel.MapMode mode;
+        private final long size;
+        private long start;
+        private MappedByteBuffer buffer;
+
+        Window(FileChannel channel, FileChannel.MapMode mode, long size) {
+            this.channel = channel;
+            this.mode = mode;
+            this.size = size;
+        }
+
+        MappedByteBuffer ensure(int bytes) throws IOException {
+            if (buffer == null || buffer.remaining() < bytes) {
+                force();
+                start += buffer == null ? 0 : buffer.position();
+                if (start + bytes > size) {
+                    throw new IOException("Snapshot is truncated");
+                }
+                buffer = channel.map(mode, start, Math.min(size - start, Math.max(WINDOW, bytes)));
+            }
+            return buffer;
+        }
+
+        void force() {
+            if (buffer != null && mode == FileChannel.MapMode.READ_WRITE) {
+                buffer.force();
+            }
+        }
+    }
+}
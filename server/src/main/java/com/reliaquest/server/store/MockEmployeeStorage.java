@@ -0,0 +1,25 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+
+/** How a {@link MockEmployeeStore} holds its employees. */
+public enum MockEmployeeStorage {
+    /** {@link MockEmployee} objects on the heap; fastest for the default, small datasets. */
+    HEAP {
+        @Override
+        public MockEmployeeStore create(Collection<MockEmployee> employees, long version) {
+            return new HeapMockEmployeeStore(employees, version);
+        }
+    },
+    /** Off-heap columns with almost no per-employee heap cost; meant for millions of employees. */
+    COLUMNAR {
+        @Override
+        public MockEmployeeStore create(Collection<MockEmployee> employees, long version) {
+            return new ColumnarMockEmployeeStore(employees, version);
+        }
+    };
+
+    /** A store holding {@code employees}, in order, whose version continues from {@code version}. */
+    public abstract MockEmployeeStore create(Collection<MockEmployee> employees, long version);
+}
@@ -0,0 +1,189 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * Thread-safe employee store with lookup by id and by case-insensitive name, keeping employees in insertion order.
+ *
+ * <p>Every employee gets a sequence number on insertion, so listings are stable and "first employee with this name"
+ * means the same thing it did for the original list. Writes are serialized here; each implementation decides how its
+ * reads stay consistent with them.
+ *
+ * <p>Every add or remove bumps the store's {@link #version()} and is announced to the registered {@link Change}
+ * listeners. Listeners run on the writing thread, in version order, before the change becomes visible to readers; a
+ * listener that throws aborts the change.
+ *
+ * @see HeapMockEmployeeStore
+ * @see ColumnarMockEmployeeStore
+ */
+public abstract class MockEmployeeStore {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<Consumer<Change>> listeners = new CopyOnWriteArrayList<>();
+    private volatile long version;
+
+    protected MockEmployeeStore(long version) {
+        this.version = version;
+    }
+
+    public abstract Optional<MockEmployee> findById(@NonNull UUID id);
+
+    public abstract Optional<MockEmployee> findFirstByName(@NonNull String name);
+
+    /** All employees in insertion order. */
+    public abstract List<MockEmployee> findAll();
+
+    /**
+     * Up to {@code limit} employees inserted after {@code afterSequence}, in insertion order. Positions are insertion
+     * sequences rather than offsets, so employees added or removed between calls never shift a later page.
+     */
+    public abstract Page findPage(long afterSequence, int limit);
+
+    public abstract int size();
+
+    /** Stores {@code employee} as the newest one, replacing any with the same id. Called under the write lock. */
+    protected abstract void insert(MockEmployee employee);
+
+    /** Removes the employee with {@code id}, which is known to exist. Called under the write lock. */
+    protected abstract void delete(UUID id);
+
+    /** Registers {@code listener} for every later change. */
+    public void addListener(@NonNull Consumer<Change> listener) {
+        listeners.add(listener);
+    }
+
+    /** Increases by one with every add or remove. */
+    public long version() {
+        return version;
+    }
+
+    /** Every employee in insertion order, together with the version they reflect. */
+    public Snapshot snapshot() {
+        writeLock.lock();
+        try {
+            return new Snapshot(findAll(), version);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Adds {@code employee}, replacing any employee with the same id. */
+    public void add(@NonNull MockEmployee employee) {
+        writeLock.lock();
+        try {
+            publish(Change.Type.ADDED, employee);
+            insert(employee);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds every employee in order, under a single hold of the write lock, so no other write lands between them and
+     * their versions are consecutive. The batch is all or nothing: its ids must be distinct and new to the store, and
+     * if a listener throws partway through, the employees already added are removed again, which listeners see as
+     * ordinary removals, before the failure is rethrown.
+     */
+    public void addAll(@NonNull List<MockEmployee> employees) {
+        writeLock.lock();
+        try {
+            final Set<UUID> ids = new HashSet<>();
+            for (MockEmployee employee : employees) {
+                if (!ids.add(employee.getId()) || findById(employee.getId()).isPresent()) {
+                    throw new IllegalArgumentException("Batch repeats or replaces employee " + employee.getId());
+                }
+            }
+            final List<UUID> added = new ArrayList<>(employees.size());
+            try {
+                for (MockEmployee employee : employees) {
+                    add(employee);
+                    added.add(employee.getId());
+                }
+            } catch (RuntimeException e) {
+                for (UUID id : added.reversed()) {
+                    try {
+                        removeById(id);
+                    } catch (RuntimeException rollbackFailure) {
+                        e.addSuppressed(rollbackFailure);
+                    }
+                }
+                throw e;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        writeLock.lock();
+        try {
+            Optional<MockEmployee> employee = findById(id);
+            employee.ifPresent(removed -> {
+                publish(Change.Type.REMOVED, removed);
+                delete(id);
+            });
+            return employee;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the employees with {@code ids}, which must be distinct, if every one of them exists, and none otherwise.
+     * The check and the removals happen under a single hold of the write lock.
+     *
+     * @return each id's employee, in order, or empty for an unknown id; they were removed exactly when none is empty
+     */
+    public List<Optional<MockEmployee>> removeAllById(@NonNull List<UUID> ids) {
+        writeLock.lock();
+        try {
+            List<Optional<MockEmployee>> employees = ids.stream().map(this::findById).toList();
+            if (employees.stream().allMatch(Optional::isPresent)) {
+                ids.forEach(this::removeById);
+            }
+            return employees;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Removes the earliest-inserted employee whose name matches {@code name}, ignoring case. */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        writeLock.lock();
+        try {
+            return findFirstByName(name).flatMap(employee -> removeById(employee.getId()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void publish(Change.Type type, MockEmployee employee) {
+        Change change = new Change(version + 1, type, employee);
+        listeners.forEach(listener -> listener.accept(change));
+        version = change.version();
+    }
+
+    /** An employee added (or replaced) or removed; {@code version} is the store version once it is applied. */
+    public record Change(long version, Type type, MockEmployee employee) {
+
+        public enum Type {
+            ADDED,
+            REMOVED
+        }
+    }
+
+    public record Snapshot(List<MockEmployee> employees, long version) {}
+
+    /** One page of employees; {@code nextSequence} is where the next page starts, or null on the last page. */
+    public record Page(List<MockEmployee> employees, Long nextSequence) {}
+}
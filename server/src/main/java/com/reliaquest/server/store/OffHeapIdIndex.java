@@ -0,0 +1,138 @@
+package com.reliaquest.server.store;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Open-addressing hash table from {@link UUID} to row number, held in a direct buffer so a million ids cost no heap
+ * objects at all. Slots are {@code [most significant bits][least significant bits][row + 1]}, with 0 marking an empty
+ * slot; collisions probe linearly and deletions shift the rest of the cluster back, so no tombstones build up.
+ *
+ * <p>Not thread-safe: {@link ColumnarMockEmployeeStore} guards it with its column lock.
+ */
+final class OffHeapIdIndex {
+
+    private static final int SLOT = 2 * Long.BYTES + Long.BYTES; // The row is padded to keep slots 8-byte aligned.
+    private static final int MAX_SLOTS = Integer.MAX_VALUE / SLOT;
+
+    private ByteBuffer slots;
+    private int capacity;
+    private int size;
+
+    OffHeapIdIndex(int expected) {
+        allocate(Math.max(16, Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) * 2));
+    }
+
+    /** The row of {@code id}, or -1. */
+    int get(UUID id) {
+        final long msb = id.getMostSignificantBits();
+        final long lsb = id.getLeastSignificantBits();
+        for (int slot = home(msb, lsb); ; slot = next(slot)) {
+            final long row = row(slot);
+            if (row == 0) {
+                return -1;
+            }
+            if (msb(slot) == msb && lsb(slot) == lsb) {
+                return (int) row - 1;
+            }
+        }
+    }
+
+    void put(UUID id, int row) {
+        if ((size + 1) * 2L > capacity) {
+            grow();
+        }
+        final long msb = id.getMostSignificantBits();
+        final long lsb = id.getLeastSignificantBits();
+        int slot = home(msb, lsb);
+        while (row(slot) != 0 && (msb(slot) != msb || lsb(slot) != lsb)) {
+            slot = next(slot);
+        }
+        if (row(slot) == 0) {
+            size++;
+        }
+        write(slot, msb, lsb, row + 1L);
+    }
+
+    void remove(UUID id) {
+        final long msb = id.getMostSignificantBits();
+        final long lsb = id.getLeastSignificantBits();
+        int hole = home(msb, lsb);
+        while (row(hole) != 0 && (msb(hole) != msb || lsb(hole) != lsb)) {
+            hole = next(hole);
+        }
+        if (row(hole) == 0) {
+            return;
+        }
+        size--;
+        // Shift later members of the cluster into the hole unless that would move them before their home slot.
+        for (int slot = next(hole); row(slot) != 0; slot = next(slot)) {
+            final int home = home(msb(slot), lsb(slot));
+            final boolean movable = hole <= slot ? home <= hole || home > slot : home <= hole && home > slot;
+            if (movable) {
+                write(hole, msb(slot), lsb(slot), row(slot));
+                hole = slot;
+            }
+        }
+        write(hole, 0, 0, 0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bytes() {
+        return (long) capacity * SLOT;
+    }
+
+    private void grow() {
+        if (capacity * 2L > MAX_SLOTS) {
+            throw new IllegalStateException("Id index is full at " + size + " employees");
+        }
+        final ByteBuffer previous = slots;
+        final int previousCapacity = capacity;
+        allocate(capacity * 2);
+        size = 0;
+        for (int slot = 0; slot < previousCapacity; slot++) {
+            final long row = previous.getLong(slot * SLOT + 2 * Long.BYTES);
+            if (row != 0) {
+                put(new UUID(previous.getLong(slot * SLOT), previous.getLong(slot * SLOT + Long.BYTES)), (int) row - 1);
+            }
+        }
+    }
+
+    private void allocate(int slotCount) {
+        capacity = slotCount;
+        slots = ByteBuffer.allocateDirect(capacity * SLOT);
+    }
+
+    private int home(long msb, long lsb) {
+        long hash = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & (capacity - 1);
+    }
+
+    private int next(int slot) {
+        return (slot + 1) & (capacity - 1);
+    }
+
+    private long msb(int slot) {
+        return slots.getLong(slot * SLOT);
+    }
+
+    private long lsb(int slot) {
+        return slots.getLong(slot * SLOT + Long.BYTES);
+    }
+
+    private long row(int slot) {
+        return slots.getLong(slot * SLOT + 2 * Long.BYTES);
+    }
+
+    private void write(int slot, long msb, long lsb, long row) {
+        slots.putLong(slot * SLOT, msb)
+                .putLong(slot * SLOT + Long.BYTES, lsb)
+                .putLong(slot * SLOT + 2 * Long.BYTES, row);
+    }
+}
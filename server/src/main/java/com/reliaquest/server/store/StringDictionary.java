@@ -0,0 +1,52 @@
+package com.reliaquest.server.store;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Assigns each distinct string a dense int code, so a column can hold a repeated value as a 4-byte code instead of a
+ * reference to its own {@link String}. Meant for low-cardinality values such as job titles and name parts. Codes are
+ * never reused; -1 stands for null.
+ *
+ * <p>Not thread-safe: {@link ColumnarMockEmployeeStore} guards it with its column lock.
+ */
+final class StringDictionary {
+
+    private final List<String> values = new ArrayList<>();
+    private final List<String> lowerCaseValues = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    int encode(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return codes.computeIfAbsent(value, added -> {
+            values.add(added);
+            lowerCaseValues.add(added.toLowerCase(Locale.ROOT));
+            return values.size() - 1;
+        });
+    }
+
+    String decode(int code) {
+        return code < 0 ? null : values.get(code);
+    }
+
+    /** Codes of every value that equals {@code lowerCase} once lower-cased. */
+    BitSet codesIgnoringCase(String lowerCase) {
+        final var matches = new BitSet();
+        for (int code = 0; code < lowerCaseValues.size(); code++) {
+            if (lowerCaseValues.get(code).equals(lowerCase)) {
+                matches.set(code);
+            }
+        }
+        return matches;
+    }
+
+    int size() {
+        return values.size();
+    }
+}
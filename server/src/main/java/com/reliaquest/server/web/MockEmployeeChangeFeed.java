@@ -0,0 +1,216 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams every change to a {@link MockEmployeeStore} to subscribers as Server-Sent Events, so they can mirror the
+ * employee list without fetching it again.
+ *
+ * <p>Each event's id is a version tag, {@code <epoch>-<version>}, where the epoch tells this start's versions apart
+ * from those of a previous one. A subscriber resuming from a tag still covered by the last {@code retained} changes is
+ * sent only the changes after it and then a {@code RESUMED} event carrying the version it has caught up to; any other
+ * subscriber is first sent a {@code SNAPSHOT} of every employee. After that come {@code ADDED} and {@code REMOVED}
+ * events, each carrying the employee, in version order.
+ *
+ * <p>All sending happens on a single dispatcher thread, which also sends a comment every {@code heartbeat} so idle
+ * connections can tell a quiet store from a dead server. Store writers only append to the history and hand the change
+ * over, so a slow subscriber never holds up a write.
+ */
+@Slf4j
+public class MockEmployeeChangeFeed implements AutoCloseable {
+
+    public static final String SNAPSHOT = "SNAPSHOT";
+    public static final String RESUMED = "RESUMED";
+
+    private final MockEmployeeStore store;
+    private final int retained;
+    private final Duration timeout;
+    private final String epoch = Long.toHexString(RandomGenerator.getDefault().nextLong());
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mock-employee-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ReentrantLock historyLock = new ReentrantLock();
+    // Guarded by historyLock. The oldest retained change follows floorVersion.
+    private final ArrayDeque<MockEmployeeStore.Change> history = new ArrayDeque<>();
+    private long floorVersion;
+
+    // Only touched on the dispatcher thread.
+    private final List<Subscriber> subscribers = new ArrayList<>();
+
+    public MockEmployeeChangeFeed(
+            @NonNull MockEmployeeStore store, int retained, @NonNull Duration timeout, @NonNull Duration heartbeat) {
+        if (retained < 1 || heartbeat.isNegative() || heartbeat.isZero()) {
+            throw new IllegalArgumentException("The change feed must retain at least 1 change and beat periodically");
+        }
+        this.store = store;
+        this.retained = retained;
+        this.timeout = timeout;
+        this.floorVersion = store.version();
+        store.addListener(this::record);
+        dispatcher.scheduleWithFixedDelay(
+                this::beat, heartbeat.toNanos(), heartbeat.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /** The version tag of {@code version}, as used for event ids. */
+    public String versionTag(long version) {
+        return epoch + "-" + version;
+    }
+
+    /**
+     * Streams changes after {@code lastEventId}, a version tag from an earlier event or ETag, or a snapshot first when
+     * it is null or no longer covered.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        final var subscriber = new Subscriber(new SseEmitter(timeout.toMillis()));
+        final Long after = parseVersionTag(lastEventId);
+        subscriber.emitter.onCompletion(() -> dispatch(() -> subscribers.remove(subscriber)));
+        subscriber.emitter.onError(error -> dispatch(() -> subscribers.remove(subscriber)));
+        dispatch(() -> start(subscriber, after));
+        return subscriber.emitter;
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+    }
+
+    /** Runs on the writing thread, under the store's write lock, so changes arrive here in version order. */
+    private void record(MockEmployeeStore.Change change) {
+        historyLock.lock();
+        try {
+            history.addLast(change);
+            if (history.size() > retained) {
+                floorVersion = history.removeFirst().version();
+            }
+        } finally {
+            historyLock.unlock();
+        }
+        dispatch(() -> deliver(change));
+    }
+
+    private void start(Subscriber subscriber, Long after) {
+        final List<MockEmployeeStore.Change> backlog = after == null ? null : changesAfter(after);
+        if (backlog == null) {
+            final var snapshot = store.snapshot();
+            subscriber.lastSent = snapshot.version();
+            if (!send(subscriber, SNAPSHOT, snapshot.version(), snapshot.employees())) {
+                return;
+            }
+        } else {
+            subscriber.lastSent = after;
+            for (MockEmployeeStore.Change change : backlog) {
+                if (!send(subscriber, change.type().name(), change.version(), change.employee())) {
+                    return;
+                }
+                subscriber.lastSent = change.version();
+            }
+            if (!send(subscriber, RESUMED, subscriber.lastSent, subscriber.lastSent)) {
+                return;
+            }
+        }
+        subscribers.add(subscriber);
+        log.debug("Change feed subscriber started after version {}", subscriber.lastSent);
+    }
+
+    /** The retained changes after {@code after}, or null when the history does not reach back that far. */
+    private List<MockEmployeeStore.Change> changesAfter(long after) {
+        historyLock.lock();
+        try {
+            final long latest = history.isEmpty() ? floorVersion : history.getLast().version();
+            if (after < floorVersion || after > latest) {
+                return null;
+            }
+            return history.stream().filter(change -> change.version() > after).toList();
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    private void deliver(MockEmployeeStore.Change change) {
+        for (Subscriber subscriber : List.copyOf(subscribers)) {
+            // A subscriber that started after this change was recorded has already been sent it.
+            if (change.version() > subscriber.lastSent
+                    && send(subscriber, change.type().name(), change.version(), change.employee())) {
+                subscriber.lastSent = change.version();
+            }
+        }
+    }
+
+    private void beat() {
+        for (Subscriber subscriber : List.copyOf(subscribers)) {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                drop(subscriber, e);
+            }
+        }
+    }
+
+    private boolean send(Subscriber subscriber, String name, long version, Object data) {
+        try {
+            subscriber.emitter
+                    .send(SseEmitter.event()
+                            .name(name)
+                            .id(versionTag(version))
+                            .data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+            return false;
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        log.debug("Dropping change feed subscriber: {}", cause.getMessage());
+        subscribers.remove(subscriber);
+        subscriber.emitter.completeWithError(cause);
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; subscribers are about to be disconnected anyway.
+        }
+    }
+
+    private Long parseVersionTag(String tag) {
+        if (tag == null || !tag.startsWith(epoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(tag.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** An open stream and the version of the last change sent on it. */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private long lastSent;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.server.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+
+/**
+ * Rate limits each client with the {@link SlidingWindowRateLimiter} of the first {@link Rule} matching the request.
+ *
+ * <p>Every limited response carries {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and
+ * {@code X-RateLimit-Reset} (seconds until the current window ends); a rejected one is a 429 with {@code Retry-After}
+ * in seconds, so clients can wait exactly as long as needed. Clients are told apart by {@code clientHeader} when it is
+ * set and present, and by their remote address otherwise.
+ *
+ * <p>A request answered with {@code 304 Not Modified} costs only {@code notModifiedCost} of a permit: the rest is given
+ * back once it completes, so clients revalidating what they already hold can poll more often than they can fetch.
+ *
+ * <p>Admitted and rejected requests are counted per rule in {@code mock.rate-limit.requests}.
+ */
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private static final String ADMITTED_ATTRIBUTE = RequestLimitInterceptor.class.getName() + ".admitted";
+
+    private final List<Rule> rules;
+    private final String clientHeader;
+    private final double notModifiedCost;
+    private final Map<Rule, Counter> allowed = new IdentityHashMap<>();
+    private final Map<Rule, Counter> rejected = new IdentityHashMap<>();
+
+    public RequestLimitInterceptor(
+            @NonNull List<Rule> rules,
+            String clientHeader,
+            double notModifiedCost,
+            @NonNull MeterRegistry meterRegistry) {
+        if (notModifiedCost < 0 || notModifiedCost > 1) {
+            throw new IllegalArgumentException("The cost of a 304 must be between 0 and 1 permits");
+        }
+        this.rules = List.copyOf(rules);
+        this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+        this.notModifiedCost = notModifiedCost;
+        this.rules.forEach(rule -> {
+            allowed.put(rule, counter(meterRegistry, rule, "allowed"));
+            rejected.put(rule, counter(meterRegistry, rule, "rejected"));
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true; // A streamed response finishing, such as the change feed; admitted when it started.
+        }
+        final var path = PathContainer.parsePath(request.getRequestURI());
+        final var rule = rules.stream()
+                .filter(candidate -> candidate.matches(request.getMethod(), path))
+                .findFirst();
+        if (rule.isEmpty()) {
+            return true;
+        }
+
+        final String client = client(request);
+        final var decision = rule.get().limiter().tryAcquire(client);
+        (decision.allowed() ? allowed : rejected).get(rule.get()).increment();
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+        request.setAttribute(ADMITTED_ATTRIBUTE, new Admitted(rule.get(), client));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        if (response.getStatus() == HttpStatus.NOT_MODIFIED.value()
+                && request.getAttribute(ADMITTED_ATTRIBUTE) instanceof Admitted admitted) {
+            admitted.rule().limiter().release(admitted.client(), 1 - notModifiedCost);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, Rule rule, String outcome) {
+        return Counter.builder("mock.rate-limit.requests")
+                .description("Requests checked against the per-client rate limit")
+                .tag("method", rule.method() == null ? "*" : rule.method().name())
+                .tag("path", rule.pattern().getPatternString())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private String client(HttpServletRequest request) {
+        final String client = clientHeader == null ? null : request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+
+    private record Admitted(Rule rule, String client) {}
+
+    /**
+     * Requests to {@code pattern}, with {@code method} or with any method when it is null, share {@code limiter}'s
+     * windows.
+     */
+    public record Rule(HttpMethod method, @NonNull PathPattern pattern, @NonNull SlidingWindowRateLimiter limiter) {
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.matches(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
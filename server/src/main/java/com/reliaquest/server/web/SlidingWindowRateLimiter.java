@@ -0,0 +1,173 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Per-client sliding-window rate limiter that never blocks or locks.
+ *
+ * <p>Each client has a counter for the current fixed window and one for the previous window. A request is admitted
+ * while {@code previous * (1 - elapsed fraction of the current window) + current} stays below the limit, which
+ * approximates a true sliding window without keeping a timestamp per request. A client's state is one immutable
+ * {@link Window} swapped in with compare-and-set, so concurrent requests from the same client can neither both take
+ * the last permit nor lose a count.
+ *
+ * <p>A request that turned out cheaper than a whole permit, such as a {@code 304 Not Modified}, can give part of its
+ * permit back with {@link #release}, so counts are fractional.
+ *
+ * <p>Clients idle for two whole windows carry no information any more and are dropped by an occasional sweep.
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final Window RETIRED = new Window(Long.MIN_VALUE, 0, 0);
+
+    @Getter
+    private final int limit;
+
+    @Getter
+    private final Duration window;
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicReference<Window>> clients = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepNanos;
+
+    public SlidingWindowRateLimiter(int limit, @NonNull Duration window) {
+        this(limit, window, System::nanoTime);
+    }
+
+    SlidingWindowRateLimiter(int limit, @NonNull Duration window, @NonNull LongSupplier nanoClock) {
+        if (limit < 1 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Rate limit must be at least 1 per a positive window");
+        }
+        this.limit = limit;
+        this.window = window;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextSweepNanos = new AtomicLong(nanoClock.getAsLong() + 2 * windowNanos);
+    }
+
+    /** Takes one permit for {@code client} if its window has room, and reports where the client stands either way. */
+    public Decision tryAcquire(@NonNull String client) {
+        final long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        final long index = Math.floorDiv(now, windowNanos);
+        final double elapsed = (double) Math.floorMod(now, windowNanos) / windowNanos;
+        while (true) {
+            final AtomicReference<Window> state = clients.computeIfAbsent(client, key -> new AtomicReference<>());
+            final Window observed = state.get();
+            if (observed == RETIRED) {
+                // Swept between the lookup and now; replace it rather than count into a detached state.
+                clients.remove(client, state);
+                continue;
+            }
+            final Window current = Window.roll(observed, index);
+            final double used = current.previous() * (1 - elapsed) + current.current();
+            if (used + 1 > limit) {
+                return new Decision(false, limit, 0, retryAfter(current, elapsed), untilReset(now));
+            }
+            if (state.compareAndSet(observed, new Window(current.index(), current.previous(), current.current() + 1))) {
+                return new Decision(true, limit, (int) (limit - used - 1), Duration.ZERO, untilReset(now));
+            }
+        }
+    }
+
+    /**
+     * Gives back {@code permits} of a permit {@code client} was admitted with. A permit from a window that has since
+     * rolled over is given back from the previous window's count, and nothing is given back once that has faded too.
+     */
+    public void release(@NonNull String client, double permits) {
+        final AtomicReference<Window> state = clients.get(client);
+        if (state == null || permits <= 0) {
+            return;
+        }
+        final long index = Math.floorDiv(nanoClock.getAsLong(), windowNanos);
+        while (true) {
+            final Window observed = state.get();
+            if (observed == null || observed == RETIRED) {
+                return;
+            }
+            final Window current = Window.roll(observed, index);
+            final Window released = current.current() >= permits
+                    ? new Window(current.index(), current.previous(), current.current() - permits)
+                    : new Window(current.index(), Math.max(0, current.previous() - permits), current.current());
+            if (state.compareAndSet(observed, released)) {
+                return;
+            }
+        }
+    }
+
+    int trackedClients() {
+        return clients.size();
+    }
+
+    /** How long until {@code window} has room for one more request, assuming nothing else is admitted meanwhile. */
+    private Duration retryAfter(Window window, double elapsed) {
+        final double room = limit - 1 - window.current();
+        double fraction;
+        if (room >= 0 && window.previous() > 0) {
+            // The previous window's weight alone has to fade far enough, still within this window.
+            fraction = 1 - room / window.previous();
+        } else {
+            // Only the next window helps: there this window's count becomes the fading previous one.
+            fraction = 1 + Math.max(0, 1 - (limit - 1.0) / window.current());
+        }
+        return Duration.ofNanos(Math.max(0, (long) Math.ceil((fraction - elapsed) * windowNanos)));
+    }
+
+    private Duration untilReset(long now) {
+        return Duration.ofNanos(windowNanos - Math.floorMod(now, windowNanos));
+    }
+
+    private void sweepIfDue(long now) {
+        final long due = nextSweepNanos.get();
+        if (now - due < 0 || !nextSweepNanos.compareAndSet(due, now + 2 * windowNanos)) {
+            return;
+        }
+        final long index = Math.floorDiv(now, windowNanos);
+        clients.forEach((client, state) -> {
+            final Window window = state.get();
+            // Retire before removing, so a request racing with the sweep retries instead of counting into it.
+            if ((window == null || window.index() < index - 1) && state.compareAndSet(window, RETIRED)) {
+                clients.remove(client, state);
+            }
+        });
+    }
+
+    /** Outcome of {@link #tryAcquire}; {@code retryAfter} is zero when the request was admitted. */
+    public record Decision(boolean allowed, int limit, int remaining, Duration retryAfter, Duration reset) {
+
+        /** {@link #retryAfter()} as whole seconds, rounded up, as {@code Retry-After} expects. */
+        public long retryAfterSeconds() {
+            return ceilSeconds(retryAfter);
+        }
+
+        /** {@link #reset()} as whole seconds, rounded up. */
+        public long resetSeconds() {
+            return ceilSeconds(reset);
+        }
+
+        private static long ceilSeconds(Duration duration) {
+            return (duration.toNanos() + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+
+    /** Counts for the fixed window {@code index} and the one before it. */
+    private record Window(long index, double previous, double current) {
+
+        /** {@code window} as seen from window {@code index}; a window already rolled further is kept as it is. */
+        static Window roll(Window window, long index) {
+            if (window == null || window.index() < index - 1) {
+                return new Window(index, 0, 0);
+            }
+            return window.index() >= index ? window : new Window(index, window.current(), 0);
+        }
+    }
+}
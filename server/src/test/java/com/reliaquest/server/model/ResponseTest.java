@@ -0,0 +1,33 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void handledWith_shouldLeaveOutTheErrorAndAMissingCursor() throws Exception {
+        assertEquals(
+                "{\"data\":[\"a\"],\"status\":\"Successfully processed request.\"}",
+                objectMapper.writeValueAsString(Response.handledWith(List.of("a"))));
+    }
+
+    @Test
+    void handledWith_shouldWriteTheNextCursorOfAPage() throws Exception {
+        assertEquals(
+                "{\"data\":[\"a\"],\"status\":\"Successfully processed request.\",\"next_cursor\":\"7\"}",
+                objectMapper.writeValueAsString(Response.handledWith(List.of("a"), "7")));
+    }
+
+    @Test
+    void error_shouldLeaveOutTheData() throws Exception {
+        assertEquals(
+                "{\"status\":\"Failed to process request.\",\"error\":\"Employee not found\"}",
+                objectMapper.writeValueAsString(Response.error("Employee not found")));
+    }
+}
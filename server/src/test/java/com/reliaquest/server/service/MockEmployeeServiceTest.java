@@ -0,0 +1,170 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeBatch;
+import com.reliaquest.server.store.HeapMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.MockEmployeeChangeFeed;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static MockEmployeeGenerator generator;
+
+    private MockEmployeeStore store;
+    private MockEmployeeChangeFeed changeFeed;
+    private MockEmployeeService service;
+
+    @BeforeAll
+    static void setUpShared() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        generator = new MockEmployeeGenerator(Locale.US, 1);
+    }
+
+    @AfterAll
+    static void tearDownShared() {
+        validatorFactory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = new HeapMockEmployeeStore(generator.generate(3));
+        changeFeed = new MockEmployeeChangeFeed(store, 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        service = new MockEmployeeService(generator, store, validatorFactory.getValidator(), changeFeed);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeed.close();
+    }
+
+    @Test
+    void createAll_shouldCreateEveryEmployeeInInputOrder() {
+        MockEmployeeBatch batch = service.createAll(List.of(input("Alice Smith"), input("Bob Jones")));
+
+        assertEquals(MockEmployeeBatch.Outcome.APPLIED, batch.outcome());
+        assertEquals(
+                List.of("Alice Smith", "Bob Jones"),
+                batch.items().stream().map(item -> item.employee().getName()).toList());
+        assertEquals(5, store.size());
+        assertEquals(2, store.version());
+    }
+
+    @Test
+    void createAll_shouldCreateNothingWhenAnyInputIsInvalid() {
+        CreateMockEmployeeInput invalid = input("Carol White");
+        invalid.setAge(12);
+
+        MockEmployeeBatch batch = service.createAll(List.of(input("Alice Smith"), invalid, input("Bob Jones")));
+
+        assertEquals(MockEmployeeBatch.Outcome.INVALID, batch.outcome());
+        assertEquals(
+                List.of(1),
+                batch.items().stream()
+                        .filter(item -> item.error() != null)
+                        .map(MockEmployeeBatch.Item::index)
+                        .toList());
+        assertEquals(3, store.size());
+        assertEquals(0, store.version());
+    }
+
+    @Test
+    void createAll_shouldCreateNothingWhenTheStoreFailsPartway() {
+        store.addListener(change -> {
+            if (change.type() == MockEmployeeStore.Change.Type.ADDED
+                    && change.employee().getName().equals("Bob Jones")) {
+                throw new IllegalStateException("Journal is full");
+            }
+        });
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> service.createAll(List.of(input("Alice Smith"), input("Bob Jones"), input("Carol White"))));
+
+        assertEquals(3, store.size());
+        assertTrue(store.findFirstByName("Alice Smith").isEmpty());
+        // Alice was added and removed again, Bob never was.
+        assertEquals(2, store.version());
+    }
+
+    @Test
+    void deleteAllById_shouldRemoveNothingWhenAnyIdIsUnknown() {
+        List<UUID> ids = new ArrayList<>(store.findAll().stream().map(MockEmployee::getId).toList());
+        ids.add(1, UUID.randomUUID());
+
+        MockEmployeeBatch batch = service.deleteAllById(ids);
+
+        assertEquals(MockEmployeeBatch.Outcome.NOT_FOUND, batch.outcome());
+        assertEquals(
+                List.of(1),
+                batch.items().stream()
+                        .filter(item -> item.error() != null)
+                        .map(MockEmployeeBatch.Item::index)
+                        .toList());
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void deleteAllById_shouldRejectMissingAndRepeatedIds() {
+        UUID id = store.findAll().get(0).getId();
+
+        MockEmployeeBatch batch = service.deleteAllById(Arrays.asList(id, null, id));
+
+        assertEquals(MockEmployeeBatch.Outcome.INVALID, batch.outcome());
+        assertEquals(
+                List.of("Missing id", "Duplicate id " + id),
+                batch.items().stream()
+                        .map(MockEmployeeBatch.Item::error)
+                        .filter(Objects::nonNull)
+                        .toList());
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void findAllById_shouldReportUnknownIdsInTheirOwnItem() {
+        MockEmployee known = store.findAll().get(0);
+
+        MockEmployeeBatch batch = service.findAllById(List.of(UUID.randomUUID(), known.getId()));
+
+        assertEquals(MockEmployeeBatch.Outcome.APPLIED, batch.outcome());
+        assertEquals("Employee not found", batch.items().get(0).error());
+        assertEquals(known, batch.items().get(1).employee());
+    }
+
+    @Test
+    void createAll_shouldRejectAnOversizedBatch() {
+        List<CreateMockEmployeeInput> inputs =
+                Collections.nCopies(MockEmployeeService.MAX_BATCH_SIZE + 1, input("Alice Smith"));
+
+        assertThrows(IllegalArgumentException.class, () -> service.createAll(inputs));
+        assertEquals(0, store.version());
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(100_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
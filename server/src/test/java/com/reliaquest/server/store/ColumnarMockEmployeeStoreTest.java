@@ -0,0 +1,49 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ColumnarMockEmployeeStoreTest extends MockEmployeeStoreTest {
+
+    @Override
+    protected MockEmployeeStore store(List<MockEmployee> employees, long version) {
+        return new ColumnarMockEmployeeStore(employees, version);
+    }
+
+    @Test
+    void findById_shouldRestoreMissingFieldsAndSingleWordNames() {
+        MockEmployee cher = MockEmployee.builder().id(UUID.randomUUID()).name("Cher").build();
+        MockEmployee spaced = MockEmployee.builder().id(UUID.randomUUID()).name("Mary Ann van Dyke").build();
+        MockEmployeeStore store = store(List.of(cher, spaced), 0);
+
+        assertEquals(Optional.of(cher), store.findById(cher.getId()));
+        assertEquals(Optional.of(spaced), store.findById(spaced.getId()));
+        assertEquals(Optional.of(cher), store.findFirstByName("CHER"));
+        assertEquals(Optional.of(spaced), store.findFirstByName("mary ann VAN dyke"));
+        assertTrue(store.findFirstByName("Mary").isEmpty());
+    }
+
+    @Test
+    void insert_shouldSpanChunksAndReportTheMemoryItHolds() {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i <= ColumnarMockEmployeeStore.CHUNK_ROWS; i++) {
+            employees.add(employee("Employee " + i, 50_000 + i));
+        }
+        ColumnarMockEmployeeStore small = new ColumnarMockEmployeeStore(employees.subList(0, 1));
+
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(employees);
+
+        MockEmployee last = employees.get(employees.size() - 1);
+        assertEquals(employees.size(), store.size());
+        assertEquals(Optional.of(last), store.findById(last.getId()));
+        assertEquals(employees, store.findAll());
+        assertEquals(List.of(last), store.findPage(ColumnarMockEmployeeStore.CHUNK_ROWS - 1, 10).employees());
+        assertTrue(store.offHeapBytes() > small.offHeapBytes());
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+
+class HeapMockEmployeeStoreTest extends MockEmployeeStoreTest {
+
+    @Override
+    protected MockEmployeeStore store(List<MockEmployee> employees, long version) {
+        return new HeapMockEmployeeStore(employees, version);
+    }
+}
@@ -0,0 +1,152 @@
+package com.reliaquest.server.store;
+
+import static com.reliaquest.server.store.MockEmployeeStoreTest.employee;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final MockEmployee alice = employee("Alice Smith", 100_000);
+    private final MockEmployee bob = employee("Bob Jones", 90_000);
+
+    @Test
+    void replay_shouldReturnEveryAppendedChangeInOrder() throws IOException {
+        journal(0, added(1, alice), added(2, bob), removed(3, alice));
+
+        List<MockEmployeeStore.Change> replayed = new ArrayList<>();
+        long version = MockEmployeeJournal.replay(directory, 0, replayed::add);
+
+        assertEquals(3, version);
+        assertEquals(List.of(added(1, alice), added(2, bob)), replayed.subList(0, 2));
+        assertEquals(3, replayed.get(2).version());
+        assertEquals(MockEmployeeStore.Change.Type.REMOVED, replayed.get(2).type());
+        // Removals only journal the id.
+        assertEquals(MockEmployee.builder().id(alice.getId()).build(), replayed.get(2).employee());
+    }
+
+    @Test
+    void replay_shouldSkipChangesTheSnapshotCovers() throws IOException {
+        journal(0, added(1, alice), added(2, bob), removed(3, alice));
+
+        List<MockEmployeeStore.Change> replayed = new ArrayList<>();
+        long version = MockEmployeeJournal.replay(directory, 2, replayed::add);
+
+        assertEquals(3, version);
+        assertEquals(List.of(3L), replayed.stream().map(MockEmployeeStore.Change::version).toList());
+    }
+
+    @Test
+    void replay_shouldStopBeforeATornTail() throws IOException {
+        journal(0, added(1, alice), added(2, bob));
+        Path segment = onlySegment();
+        byte[] bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 5));
+
+        List<MockEmployeeStore.Change> replayed = new ArrayList<>();
+        long version = MockEmployeeJournal.replay(directory, 0, replayed::add);
+
+        assertEquals(1, version);
+        assertEquals(List.of(added(1, alice)), replayed);
+    }
+
+    @Test
+    void replay_shouldStopAtARecordWhoseChecksumDoesNotMatch() throws IOException {
+        journal(0, added(1, alice), added(2, bob));
+        Path segment = onlySegment();
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(segment, bytes);
+
+        List<MockEmployeeStore.Change> replayed = new ArrayList<>();
+        long version = MockEmployeeJournal.replay(directory, 0, replayed::add);
+
+        assertEquals(1, version);
+        assertEquals(List.of(added(1, alice)), replayed);
+    }
+
+    @Test
+    void replay_shouldStopAtAMissingVersion() throws IOException {
+        journal(0, added(1, alice), added(3, bob));
+
+        List<MockEmployeeStore.Change> replayed = new ArrayList<>();
+        long version = MockEmployeeJournal.replay(directory, 0, replayed::add);
+
+        assertEquals(1, version);
+        assertEquals(List.of(added(1, alice)), replayed);
+    }
+
+    @Test
+    void replay_shouldReturnTheGivenVersionWithoutAJournal() throws IOException {
+        assertEquals(7, MockEmployeeJournal.replay(directory.resolve("missing"), 7, change -> fail()));
+    }
+
+    @Test
+    void roll_shouldReturnEverySegmentBeforeTheNewOne() throws IOException {
+        try (var journal = new MockEmployeeJournal(directory, FsyncPolicy.NEVER, 0)) {
+            journal.append(added(1, alice));
+            List<Path> covered = journal.roll();
+            journal.append(added(2, bob));
+
+            assertEquals(List.of(directory.resolve("journal-1.log")), covered);
+            assertEquals(
+                    List.of(directory.resolve("journal-1.log"), directory.resolve("journal-2.log")),
+                    MockEmployeeJournal.segments(directory));
+        }
+        assertEquals(2, MockEmployeeJournal.replay(directory, 0, change -> {}));
+    }
+
+    @Test
+    void constructor_shouldDiscardSegmentsStartingAfterTheRecoveredVersion() throws IOException {
+        MockEmployee carol = employee("Carol White", 95_000);
+        try (var journal = new MockEmployeeJournal(directory, FsyncPolicy.NEVER, 0)) {
+            journal.append(added(1, alice));
+            journal.roll();
+            journal.append(added(2, bob));
+            journal.roll();
+            journal.append(added(3, carol));
+        }
+
+        // As if version 2 had been torn: replay stopped at 1, so the old version 3 must never follow the new 2.
+        try (var journal = new MockEmployeeJournal(directory, FsyncPolicy.NEVER, 1)) {
+            journal.append(added(2, carol));
+        }
+
+        List<MockEmployeeStore.Change> replayed = new ArrayList<>();
+        assertEquals(2, MockEmployeeJournal.replay(directory, 0, replayed::add));
+        assertEquals(List.of(added(1, alice), added(2, carol)), replayed);
+    }
+
+    private void journal(long version, MockEmployeeStore.Change... changes) throws IOException {
+        try (var journal = new MockEmployeeJournal(directory, FsyncPolicy.ALWAYS, version)) {
+            for (MockEmployeeStore.Change change : changes) {
+                journal.append(change);
+            }
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        List<Path> segments = MockEmployeeJournal.segments(directory);
+        assertEquals(1, segments.size());
+        return segments.get(0);
+    }
+
+    private static MockEmployeeStore.Change added(long version, MockEmployee employee) {
+        return new MockEmployeeStore.Change(version, MockEmployeeStore.Change.Type.ADDED, employee);
+    }
+
+    private static MockEmployeeStore.Change removed(long version, MockEmployee employee) {
+        return new MockEmployeeStore.Change(version, MockEmployeeStore.Change.Type.REMOVED, employee);
+    }
+}
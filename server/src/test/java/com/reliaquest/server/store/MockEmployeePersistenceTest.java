@@ -0,0 +1,84 @@
+package com.reliaquest.server.store;
+
+import static com.reliaquest.server.store.MockEmployeeStoreTest.employee;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_shouldReturnNothingBeforeAnythingWasPersisted() {
+        try (var persistence = persistence()) {
+            assertTrue(persistence.recover().isEmpty());
+        }
+    }
+
+    @Test
+    void recover_shouldReturnNothingWhenAFirstStartLeftOnlyAnEmptyJournal() throws Exception {
+        // A first start that opened its journal but stopped before writing the initial snapshot.
+        new MockEmployeeJournal(directory, FsyncPolicy.ALWAYS, 0).close();
+        assertFalse(MockEmployeeJournal.segments(directory).isEmpty());
+
+        try (var persistence = persistence()) {
+            assertTrue(persistence.recover().isEmpty());
+
+            MockEmployee alice = employee("Alice Smith", 100_000);
+            persistence.attach(new HeapMockEmployeeStore(List.of(alice)));
+
+            try (var restarted = persistence()) {
+                assertEquals(new MockEmployeeStore.Snapshot(List.of(alice), 0), restarted.recover().orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    void recover_shouldReplayTheJournalOnTopOfTheSnapshotAfterACrash() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployee bob = employee("Bob Jones", 90_000);
+        MockEmployee carol = employee("Carol White", 95_000);
+        MockEmployee raisedBob = bob.toBuilder().salary(99_000).build();
+        var crashed = persistence();
+        MockEmployeeStore store = new HeapMockEmployeeStore(List.of(alice, bob));
+        crashed.attach(store);
+
+        // Never closed, so only the snapshot taken on attach and the journal hold these.
+        store.add(carol);
+        store.removeById(alice.getId());
+        store.add(raisedBob);
+
+        try (var restarted = persistence()) {
+            assertEquals(
+                    new MockEmployeeStore.Snapshot(List.of(carol, raisedBob), 3),
+                    restarted.recover().orElseThrow());
+        } finally {
+            crashed.close();
+        }
+    }
+
+    @Test
+    void close_shouldLeaveASnapshotThatNeedsNoJournal() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        try (var persistence = persistence()) {
+            MockEmployeeStore store = new HeapMockEmployeeStore(List.of(), 0);
+            persistence.attach(store);
+            store.add(alice);
+        }
+
+        try (var restarted = persistence()) {
+            assertEquals(new MockEmployeeStore.Snapshot(List.of(alice), 1), restarted.recover().orElseThrow());
+        }
+    }
+
+    private MockEmployeePersistence persistence() {
+        return new MockEmployeePersistence(directory, FsyncPolicy.ALWAYS, Duration.ofSeconds(1), Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.server.store;
+
+import static com.reliaquest.server.store.MockEmployeeStoreTest.employee;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_shouldReturnWhatWasWrittenInOrder() throws IOException {
+        Path file = directory.resolve("snapshot.bin");
+        var snapshot = new MockEmployeeStore.Snapshot(
+                List.of(
+                        employee("Alice Smith", 100_000),
+                        MockEmployee.builder().id(UUID.randomUUID()).name("Zo\u00eb N\u00fa\u00f1ez").build(),
+                        employee("Bob Jones", 90_000)),
+                42);
+
+        MockEmployeeSnapshotFile.write(file, snapshot);
+
+        assertEquals(snapshot, MockEmployeeSnapshotFile.read(file));
+        assertFalse(Files.exists(directory.resolve("snapshot.bin.tmp")));
+    }
+
+    @Test
+    void write_shouldReplaceThePreviousSnapshot() throws IOException {
+        Path file = directory.resolve("snapshot.bin");
+        MockEmployeeSnapshotFile.write(
+                file, new MockEmployeeStore.Snapshot(List.of(employee("Alice Smith", 100_000)), 1));
+        var empty = new MockEmployeeStore.Snapshot(List.of(), 2);
+
+        MockEmployeeSnapshotFile.write(file, empty);
+
+        assertEquals(empty, MockEmployeeSnapshotFile.read(file));
+    }
+
+    @Test
+    void read_shouldRejectATruncatedSnapshot() throws IOException {
+        Path file = directory.resolve("snapshot.bin");
+        MockEmployeeSnapshotFile.write(
+                file,
+                new MockEmployeeStore.Snapshot(
+                        List.of(employee("Alice Smith", 100_000), employee("Bob Jones", 90_000)), 2));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        IOException e = assertThrows(IOException.class, () -> MockEmployeeSnapshotFile.read(file));
+        assertEquals("Snapshot is truncated", e.getMessage());
+    }
+
+    @Test
+    void read_shouldRejectAFileThatIsNotASnapshot() throws IOException {
+        Path file = directory.resolve("snapshot.bin");
+        Files.write(file, new byte[64]);
+
+        IOException e = assertThrows(IOException.class, () -> MockEmployeeSnapshotFile.read(file));
+        assertTrue(e.getMessage().startsWith("Not a mock employee snapshot"));
+    }
+}
@@ -0,0 +1,203 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/** Behaviour every {@link MockEmployeeStore} implementation shares; each one runs it through a subclass. */
+abstract class MockEmployeeStoreTest {
+
+    /** A store holding {@code employees}, in order, at {@code version}. */
+    protected abstract MockEmployeeStore store(List<MockEmployee> employees, long version);
+
+    @Test
+    void findById_shouldReturnTheStoredEmployee() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployeeStore store = store(List.of(alice, employee("Bob Jones", 90_000)), 0);
+
+        assertEquals(Optional.of(alice), store.findById(alice.getId()));
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void findFirstByName_shouldIgnoreCaseAndPreferTheEarliestInserted() {
+        MockEmployee first = employee("Alice Smith", 100_000);
+        MockEmployee second = employee("alice smith", 80_000);
+        MockEmployeeStore store = store(List.of(first, second), 0);
+
+        assertEquals(Optional.of(first), store.findFirstByName("ALICE SMITH"));
+        assertTrue(store.findFirstByName("Alice").isEmpty());
+    }
+
+    @Test
+    void findAll_shouldKeepInsertionOrderAndMoveAReplacedEmployeeToTheEnd() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployee bob = employee("Bob Jones", 90_000);
+        MockEmployeeStore store = store(List.of(alice, bob), 0);
+
+        MockEmployee renamed = alice.toBuilder().name("Alice Brown").build();
+        store.add(renamed);
+
+        assertEquals(List.of(bob, renamed), store.findAll());
+        assertEquals(2, store.size());
+        assertTrue(store.findFirstByName("Alice Smith").isEmpty());
+    }
+
+    @Test
+    void findPage_shouldWalkEveryEmployeeOnceWhileOthersAreRemoved() {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            employees.add(employee("Employee " + i, 50_000 + i));
+        }
+        MockEmployeeStore store = store(employees, 0);
+
+        MockEmployeeStore.Page first = store.findPage(-1, 4);
+        store.removeById(employees.get(2).getId());
+        store.removeById(employees.get(5).getId());
+        MockEmployeeStore.Page second = store.findPage(first.nextSequence(), 4);
+        MockEmployeeStore.Page last = store.findPage(second.nextSequence(), 4);
+
+        assertEquals(employees.subList(0, 4), first.employees());
+        assertEquals(
+                List.of(employees.get(4), employees.get(6), employees.get(7), employees.get(8)), second.employees());
+        assertEquals(List.of(employees.get(9)), last.employees());
+        assertNull(last.nextSequence());
+    }
+
+    @Test
+    void removeAllById_shouldRemoveNoneWhenAnyIdIsUnknown() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployee bob = employee("Bob Jones", 90_000);
+        MockEmployeeStore store = store(List.of(alice, bob), 0);
+
+        List<Optional<MockEmployee>> removed = store.removeAllById(List.of(alice.getId(), UUID.randomUUID()));
+
+        assertEquals(List.of(Optional.of(alice), Optional.empty()), removed);
+        assertEquals(List.of(alice, bob), store.findAll());
+        assertEquals(0, store.version());
+    }
+
+    @Test
+    void removeAllById_shouldRemoveEveryEmployeeWhenAllExist() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployee bob = employee("Bob Jones", 90_000);
+        MockEmployeeStore store = store(List.of(alice, bob), 0);
+
+        store.removeAllById(List.of(bob.getId(), alice.getId()));
+
+        assertEquals(0, store.size());
+        assertEquals(2, store.version());
+    }
+
+    @Test
+    void removeFirstByName_shouldRemoveOnlyTheEarliestMatch() {
+        MockEmployee first = employee("Alice Smith", 100_000);
+        MockEmployee second = employee("Alice Smith", 80_000);
+        MockEmployeeStore store = store(List.of(first, second), 0);
+
+        assertEquals(Optional.of(first), store.removeFirstByName("alice smith"));
+        assertEquals(List.of(second), store.findAll());
+    }
+
+    @Test
+    void listeners_shouldSeeEveryChangeInVersionOrderFromTheInitialVersion() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployee bob = employee("Bob Jones", 90_000);
+        MockEmployeeStore store = store(List.of(alice), 41);
+        List<MockEmployeeStore.Change> changes = new ArrayList<>();
+        store.addListener(changes::add);
+
+        store.add(bob);
+        store.removeById(alice.getId());
+        store.removeById(alice.getId());
+
+        assertEquals(
+                List.of(
+                        new MockEmployeeStore.Change(42, MockEmployeeStore.Change.Type.ADDED, bob),
+                        new MockEmployeeStore.Change(43, MockEmployeeStore.Change.Type.REMOVED, alice)),
+                changes);
+        assertEquals(new MockEmployeeStore.Snapshot(List.of(bob), 43), store.snapshot());
+    }
+
+    @Test
+    void add_shouldBeAbortedByAThrowingListener() {
+        MockEmployeeStore store = store(List.of(), 0);
+        store.addListener(change -> {
+            throw new IllegalStateException("Journal is full");
+        });
+
+        assertThrows(IllegalStateException.class, () -> store.add(employee("Alice Smith", 100_000)));
+        assertEquals(0, store.size());
+        assertEquals(0, store.version());
+    }
+
+    @Test
+    void addAll_shouldAddEveryEmployeeWithConsecutiveVersions() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployee bob = employee("Bob Jones", 90_000);
+        MockEmployeeStore store = store(List.of(), 0);
+        List<Long> versions = new ArrayList<>();
+        store.addListener(change -> versions.add(change.version()));
+
+        store.addAll(List.of(alice, bob));
+
+        assertEquals(List.of(alice, bob), store.findAll());
+        assertEquals(List.of(1L, 2L), versions);
+    }
+
+    @Test
+    void addAll_shouldRemoveWhatItAddedWhenAListenerFailsPartway() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployee bob = employee("Bob Jones", 90_000);
+        MockEmployee carol = employee("Carol White", 95_000);
+        MockEmployee dave = employee("Dave Brown", 85_000);
+        MockEmployeeStore store = store(List.of(alice), 0);
+        List<MockEmployeeStore.Change> changes = new ArrayList<>();
+        store.addListener(change -> {
+            if (change.employee().equals(carol)) {
+                throw new IllegalStateException("Journal is full");
+            }
+            changes.add(change);
+        });
+
+        assertThrows(IllegalStateException.class, () -> store.addAll(List.of(bob, carol, dave)));
+
+        assertEquals(List.of(alice), store.findAll());
+        assertTrue(store.findById(bob.getId()).isEmpty());
+        assertEquals(
+                List.of(
+                        new MockEmployeeStore.Change(1, MockEmployeeStore.Change.Type.ADDED, bob),
+                        new MockEmployeeStore.Change(2, MockEmployeeStore.Change.Type.REMOVED, bob)),
+                changes);
+        assertEquals(2, store.version());
+    }
+
+    @Test
+    void addAll_shouldRejectABatchThatRepeatsOrReplacesAnIdWithoutAddingAnything() {
+        MockEmployee alice = employee("Alice Smith", 100_000);
+        MockEmployee bob = employee("Bob Jones", 90_000);
+        MockEmployeeStore store = store(List.of(alice), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> store.addAll(List.of(bob, bob)));
+        assertThrows(IllegalArgumentException.class, () -> store.addAll(List.of(bob, alice)));
+
+        assertEquals(List.of(alice), store.findAll());
+        assertEquals(0, store.version());
+    }
+
+    static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
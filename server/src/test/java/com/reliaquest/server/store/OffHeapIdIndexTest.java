@@ -0,0 +1,82 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class OffHeapIdIndexTest {
+
+    @Test
+    void get_shouldReturnThePutRowOrMinusOne() {
+        OffHeapIdIndex index = new OffHeapIdIndex(4);
+        UUID id = UUID.randomUUID();
+
+        index.put(id, 0);
+        index.put(id, 7);
+
+        assertEquals(7, index.get(id));
+        assertEquals(-1, index.get(UUID.randomUUID()));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void remove_shouldIgnoreAnUnknownId() {
+        OffHeapIdIndex index = new OffHeapIdIndex(4);
+        UUID id = UUID.randomUUID();
+        index.put(id, 3);
+
+        index.remove(UUID.randomUUID());
+
+        assertEquals(3, index.get(id));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void put_shouldGrowWhenHalfFull() {
+        OffHeapIdIndex index = new OffHeapIdIndex(1);
+        long initialBytes = index.bytes();
+        List<UUID> ids = new ArrayList<>();
+        for (int row = 0; row < 1_000; row++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            index.put(id, row);
+        }
+
+        for (int row = 0; row < ids.size(); row++) {
+            assertEquals(row, index.get(ids.get(row)));
+        }
+        assertEquals(1_000, index.size());
+        assertTrue(index.bytes() > initialBytes);
+    }
+
+    @Test
+    void remove_shouldKeepEveryOtherIdReachableAcrossClusters() {
+        // Enough ids to form long probe clusters, some wrapping around the end of the table.
+        Random random = new Random(42);
+        OffHeapIdIndex index = new OffHeapIdIndex(16);
+        Map<UUID, Integer> expected = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+        for (int row = 0; row < 5_000; row++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            ids.add(id);
+            expected.put(id, row);
+            index.put(id, row);
+        }
+
+        for (int i = 0; i < ids.size(); i += 2) {
+            index.remove(ids.get(i));
+            expected.remove(ids.get(i));
+        }
+
+        assertEquals(expected.size(), index.size());
+        for (UUID id : ids) {
+            assertEquals(expected.getOrDefault(id, -1), index.get(id));
+        }
+    }
+}
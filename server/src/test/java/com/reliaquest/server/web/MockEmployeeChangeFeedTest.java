@@ -0,0 +1,161 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.HeapMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeChangeFeedTest {
+
+    private MockEmployeeStore store;
+    private MockEmployeeChangeFeed feed;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        store = new HeapMockEmployeeStore(List.of(employee("Alice Smith"), employee("Bob Jones")));
+        feed = new MockEmployeeChangeFeed(store, 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        var service = new MockEmployeeService(
+                new MockEmployeeGenerator(Locale.US, 1),
+                store,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                feed);
+        mockMvc = MockMvcBuilders.standaloneSetup(new MockEmployeeController(service)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.close();
+    }
+
+    @Test
+    void subscribe_shouldStartWithASnapshotAndThenStreamChanges() throws Exception {
+        MvcResult result = subscribe(null);
+        assertEquals(List.of(new Event(MockEmployeeChangeFeed.SNAPSHOT, feed.versionTag(0))), awaitEvents(result, 1));
+
+        MockEmployee carol = employee("Carol White");
+        store.add(carol);
+
+        assertEquals(new Event("ADDED", feed.versionTag(1)), awaitEvents(result, 2).get(1));
+        assertTrue(result.getResponse().getContentAsString().contains(carol.getId().toString()));
+    }
+
+    @Test
+    void subscribe_shouldResumeAfterARetainedVersionTag() throws Exception {
+        MockEmployee carol = employee("Carol White");
+        store.add(carol);
+        store.add(employee("Dave Brown"));
+        store.removeById(carol.getId());
+
+        MvcResult result = subscribe(feed.versionTag(1));
+
+        assertEquals(
+                List.of(
+                        new Event("ADDED", feed.versionTag(2)),
+                        new Event("REMOVED", feed.versionTag(3)),
+                        new Event(MockEmployeeChangeFeed.RESUMED, feed.versionTag(3))),
+                awaitEvents(result, 3));
+
+        store.add(employee("Erin Green"));
+
+        assertEquals(new Event("ADDED", feed.versionTag(4)), awaitEvents(result, 4).get(3));
+    }
+
+    @Test
+    void subscribe_shouldSendASnapshotWhenTheTagIsNoLongerRetained() throws Exception {
+        store.add(employee("Carol White"));
+        store.add(employee("Dave Brown"));
+        store.add(employee("Erin Green"));
+
+        // Only versions 2 and 3 are retained, so resuming after 0 would miss version 1.
+        MvcResult result = subscribe(feed.versionTag(0));
+
+        assertEquals(List.of(new Event(MockEmployeeChangeFeed.SNAPSHOT, feed.versionTag(3))), awaitEvents(result, 1));
+    }
+
+    @Test
+    void subscribe_shouldSendASnapshotForATagFromAnotherStart() throws Exception {
+        store.add(employee("Carol White"));
+
+        MvcResult result = subscribe("0-0");
+
+        assertEquals(List.of(new Event(MockEmployeeChangeFeed.SNAPSHOT, feed.versionTag(1))), awaitEvents(result, 1));
+    }
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        var changes = get("/api/v1/employee/changes");
+        if (lastEventId != null) {
+            changes.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(changes).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    /** Waits until the stream holds at least {@code count} events, ignoring heartbeats. */
+    private static List<Event> awaitEvents(MvcResult result, int count) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            final List<Event> events = parse(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+            if (events.size() >= count) {
+                return events;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                fail("Expected " + count + " events but got " + events);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<Event> parse(String stream) {
+        final List<Event> events = new ArrayList<>();
+        // Only whole events, which end with a blank line.
+        final String complete = stream.substring(0, stream.lastIndexOf("\n\n") + 1);
+        for (String block : complete.split("\n\n")) {
+            String name = null;
+            String id = null;
+            for (String line : block.split("\n")) {
+                if (line.startsWith("event:")) {
+                    name = line.substring("event:".length());
+                } else if (line.startsWith("id:")) {
+                    id = line.substring("id:".length());
+                }
+            }
+            if (name != null) {
+                events.add(new Event(name, id));
+            }
+        }
+        return events;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(30)
+                .title("Engineer")
+                .build();
+    }
+
+    /** The name and id of an event, leaving out its data. */
+    private record Event(String name, String id) {}
+}
@@ -0,0 +1,173 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+    // Fractions of a power-of-two window stay exact in the limiter's double arithmetic.
+    private static final Duration WINDOW = Duration.ofSeconds(8);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, WINDOW, nanos::get);
+
+    @Test
+    void tryAcquire_shouldAdmitUpToTheLimitPerClient() {
+        for (int remaining = 3; remaining >= 0; remaining--) {
+            SlidingWindowRateLimiter.Decision decision = limiter.tryAcquire("a");
+            assertTrue(decision.allowed());
+            assertEquals(remaining, decision.remaining());
+        }
+
+        SlidingWindowRateLimiter.Decision denied = limiter.tryAcquire("a");
+
+        assertFalse(denied.allowed());
+        assertEquals(0, denied.remaining());
+        assertEquals(4, denied.limit());
+        assertTrue(limiter.tryAcquire("b").allowed());
+    }
+
+    @Test
+    void tryAcquire_shouldWeighThePreviousWindowByHowMuchOfItStillOverlaps() {
+        acquire("a", 4);
+        advance(WINDOW.plusSeconds(2)); // A quarter into the next window: 4 * 3/4 = 3 still count.
+
+        assertTrue(limiter.tryAcquire("a").allowed());
+        SlidingWindowRateLimiter.Decision denied = limiter.tryAcquire("a");
+
+        assertFalse(denied.allowed());
+        // Halfway in, the previous window weighs 2 and leaves room for one more.
+        assertEquals(Duration.ofSeconds(2), denied.retryAfter());
+        advance(denied.retryAfter());
+        assertTrue(limiter.tryAcquire("a").allowed());
+        assertFalse(limiter.tryAcquire("a").allowed());
+    }
+
+    @Test
+    void tryAcquire_shouldReportRetryAfterAndResetWhenOnlyTheNextWindowHelps() {
+        acquire("a", 4);
+
+        SlidingWindowRateLimiter.Decision denied = limiter.tryAcquire("a");
+
+        // The next window must be a quarter gone before the 4 fade to 3.
+        assertEquals(Duration.ofSeconds(10), denied.retryAfter());
+        assertEquals(10, denied.retryAfterSeconds());
+        assertEquals(WINDOW, denied.reset());
+        assertEquals(8, denied.resetSeconds());
+        advance(Duration.ofSeconds(10).minusNanos(1));
+        assertFalse(limiter.tryAcquire("a").allowed());
+        advance(Duration.ofNanos(1));
+        assertTrue(limiter.tryAcquire("a").allowed());
+    }
+
+    @Test
+    void retryAfterSeconds_shouldRoundUp() {
+        SlidingWindowRateLimiter.Decision decision =
+                new SlidingWindowRateLimiter.Decision(false, 4, 0, Duration.ofMillis(1_001), Duration.ofMillis(1));
+
+        assertEquals(2, decision.retryAfterSeconds());
+        assertEquals(1, decision.resetSeconds());
+    }
+
+    @Test
+    void release_shouldGiveBackPartOfEachPermit() {
+        acquire("a", 4);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.release("a", 0.75);
+        }
+
+        acquire("a", 3);
+        assertFalse(limiter.tryAcquire("a").allowed());
+    }
+
+    @Test
+    void release_shouldGiveBackFromThePreviousWindowOnceItRolledOver() {
+        acquire("a", 4);
+        advance(WINDOW);
+
+        limiter.release("a", 1);
+
+        assertTrue(limiter.tryAcquire("a").allowed());
+        assertFalse(limiter.tryAcquire("a").allowed());
+    }
+
+    @Test
+    void release_shouldIgnoreUnknownClients() {
+        limiter.release("a", 1);
+
+        assertEquals(0, limiter.trackedClients());
+    }
+
+    @Test
+    void tryAcquire_shouldSweepClientsIdleForTwoWindows() {
+        acquire("a", 1);
+        acquire("b", 1);
+        advance(WINDOW.multipliedBy(2));
+
+        acquire("b", 1);
+
+        assertEquals(1, limiter.trackedClients());
+        // A swept client starts over with a full window.
+        acquire("a", 4);
+    }
+
+    @Test
+    void tryAcquire_shouldAdmitExactlyTheLimitAcrossConcurrentCallers() throws Exception {
+        int threads = 8;
+        int limit = 1_000;
+        SlidingWindowRateLimiter shared = new SlidingWindowRateLimiter(limit, WINDOW, nanos::get);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> admitted = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                admitted.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int attempt = 0; attempt < limit / 2; attempt++) {
+                        if (shared.tryAcquire("shared").allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : admitted) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(limit, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void constructor_shouldRejectAnEmptyLimitOrWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowRateLimiter(0, WINDOW));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowRateLimiter(1, Duration.ZERO));
+    }
+
+    private void acquire(String client, int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(limiter.tryAcquire(client).allowed(), client + " request " + i);
+        }
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}